@@ -15,6 +15,17 @@ allprojects {
     group = property("app.group").toString()
 }
 
+sourceSets {
+    create("loadTest") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+val loadTestImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.implementation.get())
+}
+
 dependencyManagement {
     imports {
         mavenBom(libs.spring.cloud.dependencies.get().toString())
@@ -23,10 +34,13 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    implementation(libs.redisson)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    loadTestImplementation(libs.hdrhistogram)
 }
 
 // about source and compilation
@@ -50,3 +64,37 @@ tasks.test {
     ignoreFailures = true
     useJUnitPlatform()
 }
+// load test tasks
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Boots the application and drives the point API with a configurable traffic mix (-Dload.* options)."
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.load.PointLoadTest")
+    systemProperties(
+        System.getProperties()
+            .filterKeys { it.toString().startsWith("load.") }
+            .mapKeys { it.key.toString() }
+    )
+}
+tasks.register<JavaExec>("binaryThroughputTest") {
+    group = "verification"
+    description = "Compares GET /point/{id} throughput over HTTP and the binary protocol (-Dload.* options)."
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.load.PointBinaryThroughputTest")
+    systemProperties(
+        System.getProperties()
+            .filterKeys { it.toString().startsWith("load.") }
+            .mapKeys { it.key.toString() }
+    )
+}
+tasks.register<JavaExec>("lockLatencyBenchmark") {
+    group = "verification"
+    description = "Measures the extra latency of the distributed lock provider per operation (-Dload.* options)."
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.load.LockLatencyBenchmark")
+    systemProperties(
+        System.getProperties()
+            .filterKeys { it.toString().startsWith("load.") }
+            .mapKeys { it.key.toString() }
+    )
+}
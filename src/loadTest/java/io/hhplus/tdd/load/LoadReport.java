@@ -0,0 +1,97 @@
+package io.hhplus.tdd.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과
+ * API 별 처리량, 오류율, 지연 시간 백분위(ms)를 출력하고, 백분위 분포(.hgrm)를 파일로 저장합니다.
+ */
+record LoadReport(Map<Operation, Result> results, Duration duration) {
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    static LoadReport of(Map<Operation, OperationStats> stats, Duration duration) {
+        Map<Operation, Result> results = new EnumMap<>(Operation.class);
+        stats.forEach((operation, operationStats) -> results.put(operation, new Result(
+                operationStats.histogram(),
+                operationStats.succeeded(),
+                operationStats.rejected(),
+                operationStats.failed(),
+                operationStats.dropped()
+        )));
+        return new LoadReport(results, duration);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-14s %9s %10s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "req/s", "error%", "p50", "p90", "p99", "p99.9", "max", "dropped");
+
+        Histogram total = new Histogram(3);
+        long totalCount = 0;
+        long totalErrors = 0;
+        long totalDropped = 0;
+        for (Map.Entry<Operation, Result> entry : results.entrySet()) {
+            Result result = entry.getValue();
+            print(out, entry.getKey().name(), result.histogram(), result.count(), result.errors(), result.dropped());
+            total.add(result.histogram());
+            totalCount += result.count();
+            totalErrors += result.errors();
+            totalDropped += result.dropped();
+        }
+        print(out, "TOTAL", total, totalCount, totalErrors, totalDropped);
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<Operation, Result> entry : results.entrySet()) {
+            Path file = directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().histogram().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            print(out);
+        }
+    }
+
+    private void print(PrintStream out, String name, Histogram histogram, long count, long errors, long dropped) {
+        double seconds = duration.toMillis() / 1_000.0;
+        long attempted = count + dropped;
+        out.printf("%-14s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f %9d%n",
+                name,
+                count,
+                count / seconds,
+                attempted == 0 ? 0.0 : (errors + dropped) * 100.0 / attempted,
+                millis(histogram, 50.0),
+                millis(histogram, 90.0),
+                millis(histogram, 99.0),
+                millis(histogram, 99.9),
+                histogram.getMaxValue() / MICROS_PER_MILLI,
+                dropped);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    /**
+     * 응답을 받은 요청 수(count)에는 rejected, failed 가 포함되며, 오류율은 rejected + failed + dropped 로 계산합니다.
+     */
+    record Result(Histogram histogram, long succeeded, long rejected, long failed, long dropped) {
+
+        long count() {
+            return succeeded + rejected + failed;
+        }
+
+        long errors() {
+            return rejected + failed;
+        }
+    }
+}
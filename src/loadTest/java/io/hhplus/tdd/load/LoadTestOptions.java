@@ -0,0 +1,55 @@
+package io.hhplus.tdd.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (-Dload.* 시스템 프로퍼티로 지정합니다.)
+ * - baseUrl : 부하를 보낼 주소 (지정하지 않으면 애플리케이션을 직접 띄웁니다.)
+ * - rate : 초당 요청 수 (요청은 응답을 기다리지 않고 포아송 분포의 간격으로 보냅니다.)
+ * - duration / warmup : 전체 수행 시간 / 결과에서 제외할 초기 시간
+ * - readRatio : 전체 요청 중 조회 요청의 비율
+ * - historyRatio : 조회 요청 중 내역 조회의 비율
+ * - chargeRatio : 변경 요청 중 충전의 비율
+ * - users / skew : 사용자 수 / 사용자 분포의 치우침 (zipf 지수, 0 이면 균등 분포)
+ * - maxAmount : 충전/사용 금액의 최댓값
+ * - maxInFlight : 동시에 응답을 기다릴 수 있는 최대 요청 수 (초과한 요청은 보내지 않고 dropped 로 집계합니다.)
+ * - reportDirectory : 결과 파일을 저장할 경로
+ */
+record LoadTestOptions(
+        String baseUrl,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        double readRatio,
+        double historyRatio,
+        double chargeRatio,
+        int users,
+        double skew,
+        long maxAmount,
+        int maxInFlight,
+        Path reportDirectory
+) {
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                System.getProperty("load.baseUrl"),
+                Double.parseDouble(System.getProperty("load.rate", "50")),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("load.durationSeconds", "60"))),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("load.warmupSeconds", "10"))),
+                Double.parseDouble(System.getProperty("load.readRatio", "0.8")),
+                Double.parseDouble(System.getProperty("load.historyRatio", "0.2")),
+                Double.parseDouble(System.getProperty("load.chargeRatio", "0.6")),
+                Integer.parseInt(System.getProperty("load.users", "1000")),
+                Double.parseDouble(System.getProperty("load.skew", "1.0")),
+                Long.parseLong(System.getProperty("load.maxAmount", "100")),
+                Integer.parseInt(System.getProperty("load.maxInFlight", "1024")),
+                Path.of(System.getProperty("load.reportDirectory", "build/reports/load-test"))
+        );
+    }
+
+    LoadTestOptions withBaseUrl(String baseUrl) {
+        return new LoadTestOptions(baseUrl, rate, duration, warmup, readRatio, historyRatio, chargeRatio,
+                users, skew, maxAmount, maxInFlight, reportDirectory);
+    }
+}
@@ -0,0 +1,114 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.point.config.PointLockProperties;
+import io.hhplus.tdd.point.repository.InMemoryLockStore;
+import io.hhplus.tdd.point.repository.RedisLockStore;
+import io.hhplus.tdd.point.service.DistributedLockProvider;
+import io.hhplus.tdd.point.service.FencedLock;
+import io.hhplus.tdd.point.service.LocalLockProvider;
+import io.hhplus.tdd.point.service.LockProvider;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 잠금 방식별로 요청 하나가 잠금에 쓰는 시간(획득 -> fencing token 확인 -> 해제)을 측정해, 분산 잠금이 더하는 지연을 비교합니다.
+ * - local : 프로세스 내부 잠금 (기준)
+ * - distributed/memory : 프로세스 내부 대체 저장소, 네트워크를 제외한 분산 잠금 자체의 비용
+ * - distributed/redis : load.redisAddress 를 지정한 경우에만 측정
+ * 요청마다 load.users 명 중 임의의 사용자를 고르므로, load.users 를 줄이면 경합이 늘어납니다.
+ *
+ * <pre>
+ * ./gradlew lockLatencyBenchmark -Dload.threads=8 -Dload.operations=200000 -Dload.redisAddress=redis://localhost:6379
+ * </pre>
+ */
+public class LockLatencyBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int threads = Integer.getInteger("load.threads", 8);
+        int operations = Integer.getInteger("load.operations", 200_000);
+        int users = Integer.getInteger("load.users", 10_000);
+        String redisAddress = System.getProperty("load.redisAddress");
+
+        Map<String, LockProvider> providers = new LinkedHashMap<>();
+        providers.put("local", new LocalLockProvider());
+        providers.put("distributed/memory", new DistributedLockProvider(new InMemoryLockStore(), properties("memory", "redis://localhost:6379")));
+        RedisLockStore redisLockStore = null;
+        if (redisAddress != null) {
+            redisLockStore = new RedisLockStore(properties("redis", redisAddress));
+            providers.put("distributed/redis", new DistributedLockProvider(redisLockStore, properties("redis", redisAddress)));
+        }
+
+        try {
+            Map<String, Histogram> results = new LinkedHashMap<>();
+            for (Map.Entry<String, LockProvider> provider : providers.entrySet()) {
+                // JIT 와 잠금 객체를 채운 뒤 측정합니다.
+                run(provider.getValue(), threads, operations / 10, users);
+                results.put(provider.getKey(), run(provider.getValue(), threads, operations, users));
+            }
+            print(results);
+        } finally {
+            if (redisLockStore != null) {
+                redisLockStore.shutdown();
+            }
+        }
+    }
+
+    private static PointLockProperties properties(String store, String redisAddress) {
+        return new PointLockProperties("distributed", store, Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofMillis(1), redisAddress, "point:lock:bench:");
+    }
+
+    private static Histogram run(LockProvider provider, int threads, int operations, int users) throws InterruptedException {
+        Histogram total = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+        List<Histogram> histograms = new ArrayList<>(threads);
+        List<Thread> workers = new ArrayList<>(threads);
+
+        for (int t = 0; t < threads; t++) {
+            Histogram histogram = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+            histograms.add(histogram);
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < operations / threads; i++) {
+                    Lock lock = provider.getLock(random.nextLong(1, users + 1));
+                    long startedNanos = System.nanoTime();
+                    lock.lock();
+                    try {
+                        if (lock instanceof FencedLock fencedLock) {
+                            fencedLock.checkFencingToken();
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                    histogram.recordValue(System.nanoTime() - startedNanos);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        histograms.forEach(total::add);
+        return total;
+    }
+
+    private static void print(Map<String, Histogram> results) {
+        double baselineMicros = results.get("local").getMean() / 1_000.0;
+        System.out.printf("%-20s %10s %10s %10s %10s %10s %12s%n", "provider", "mean(us)", "p50(us)", "p99(us)", "p99.9(us)", "max(us)", "extra(us)");
+        results.forEach((name, histogram) -> System.out.printf("%-20s %10.1f %10.1f %10.1f %10.1f %10.1f %12.1f%n",
+                name,
+                histogram.getMean() / 1_000.0,
+                histogram.getValueAtPercentile(50) / 1_000.0,
+                histogram.getValueAtPercentile(99) / 1_000.0,
+                histogram.getValueAtPercentile(99.9) / 1_000.0,
+                histogram.getMaxValue() / 1_000.0,
+                histogram.getMean() / 1_000.0 - baselineMicros));
+    }
+}
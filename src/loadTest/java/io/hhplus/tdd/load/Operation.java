@@ -0,0 +1,51 @@
+package io.hhplus.tdd.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+
+/**
+ * 부하 테스트에서 호출하는 PointController API
+ */
+enum Operation {
+    GET_POINT {
+        @Override
+        HttpRequest request(String baseUrl, long userId, long amount) {
+            return builder(baseUrl + "/point/" + userId).GET().build();
+        }
+    },
+    GET_HISTORIES {
+        @Override
+        HttpRequest request(String baseUrl, long userId, long amount) {
+            return builder(baseUrl + "/point/" + userId + "/histories").GET().build();
+        }
+    },
+    CHARGE {
+        @Override
+        HttpRequest request(String baseUrl, long userId, long amount) {
+            return patch(baseUrl + "/point/" + userId + "/charge", amount);
+        }
+    },
+    USE {
+        @Override
+        HttpRequest request(String baseUrl, long userId, long amount) {
+            return patch(baseUrl + "/point/" + userId + "/use", amount);
+        }
+    };
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    abstract HttpRequest request(String baseUrl, long userId, long amount);
+
+    private static HttpRequest.Builder builder(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(TIMEOUT);
+    }
+
+    private static HttpRequest patch(String uri, long amount) {
+        return builder(uri)
+                .header("Content-Type", "application/json")
+                .method("PATCH", BodyPublishers.ofString("{\"amount\":" + amount + "}"))
+                .build();
+    }
+}
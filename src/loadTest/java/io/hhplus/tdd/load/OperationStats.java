@@ -0,0 +1,68 @@
+package io.hhplus.tdd.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 별 측정 결과
+ * - 지연 시간은 마이크로초 단위로 기록합니다.
+ * - rejected : 응답은 받았지만 2xx 가 아닌 요청 (잔액 부족 등 정책 위반 포함)
+ * - failed : 타임아웃, 연결 실패 등으로 응답을 받지 못한 요청
+ * - dropped : 동시 요청 수 제한에 걸려 보내지 못한 요청
+ */
+final class OperationStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    void recordSuccess(long latencyNanos) {
+        record(latencyNanos);
+        succeeded.increment();
+    }
+
+    void recordRejected(long latencyNanos) {
+        record(latencyNanos);
+        rejected.increment();
+    }
+
+    void recordFailed(long latencyNanos) {
+        record(latencyNanos);
+        failed.increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    Histogram histogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    long succeeded() {
+        return succeeded.sum();
+    }
+
+    long rejected() {
+        return rejected.sum();
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    private void record(long latencyNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        recorder.recordValue(Math.min(Math.max(micros, 1L), HIGHEST_TRACKABLE_MICROS));
+    }
+}
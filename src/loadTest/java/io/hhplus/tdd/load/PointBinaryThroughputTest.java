@@ -0,0 +1,175 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.controller.PointBinaryCodec;
+import io.hhplus.tdd.point.controller.PointBinaryCodec.Request;
+import io.hhplus.tdd.point.controller.PointBinaryServer;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 조회 요청(GET /point/{id})을 HTTP(PointController)와 바이너리 프로토콜(PointBinaryServer)로 보내 처리량을 비교합니다.
+ * - 바이너리 서버는 한 연결의 요청을 도착한 순서대로 하나씩 처리하므로, 서버에서 동시에 처리되는 요청은 최대 connections 개입니다.
+ * - 그래서 HTTP 도 connections 개의 요청만 동시에 보내, 두 방식의 동시 처리 수를 맞춰 비교합니다.
+ * - 바이너리는 depth 1(요청-응답 왕복)과 depth 개 pipelining 을 모두 측정합니다.
+ *   pipelining 은 서버 처리를 병렬화하지 않고, 왕복 대기와 시스템 콜 수만 줄입니다.
+ * - 충전/사용은 테이블 지연이 처리 시간 대부분을 차지해 프로토콜 차이가 드러나지 않으므로, 잔액 조회만 비교합니다.
+ *
+ * <pre>
+ * ./gradlew binaryThroughputTest -Dload.connections=16 -Dload.depth=16 -Dload.durationSeconds=20
+ * </pre>
+ */
+public class PointBinaryThroughputTest {
+
+    public static void main(String[] args) throws Exception {
+        int connections = Integer.getInteger("load.connections", 16);
+        int depth = Integer.getInteger("load.depth", 16);
+        int users = Integer.getInteger("load.users", 1000);
+        long durationNanos = TimeUnit.SECONDS.toNanos(Long.getLong("load.durationSeconds", 20L));
+        long warmupNanos = TimeUnit.SECONDS.toNanos(Long.getLong("load.warmupSeconds", 5L));
+
+        ConfigurableApplicationContext context = SpringApplication.run(TddApplication.class,
+                "--server.port=0", "--point.binary.enabled=true", "--point.binary.port=0");
+        try {
+            int httpPort = ((WebServerApplicationContext) context).getWebServer().getPort();
+            int binaryPort = context.getBean(PointBinaryServer.class).getPort();
+
+            // 잔액 캐시와 JIT 를 채운 뒤 측정합니다.
+            runHttp(httpPort, connections, users, warmupNanos);
+            runBinary(binaryPort, connections, depth, users, warmupNanos);
+
+            double http = runHttp(httpPort, connections, users, durationNanos);
+            double binary = runBinary(binaryPort, connections, 1, users, durationNanos);
+            double pipelined = runBinary(binaryPort, connections, depth, users, durationNanos);
+
+            System.out.printf("%-20s %12s%n", "protocol", "req/s");
+            System.out.printf("%-20s %12.1f%n", "http", http);
+            System.out.printf("%-20s %12.1f%n", "binary", binary);
+            System.out.printf("%-20s %12.1f%n", "binary (depth " + depth + ")", pipelined);
+            System.out.printf("binary / http = %.2fx, pipelined / http = %.2fx%n", binary / http, pipelined / http);
+        } finally {
+            context.close();
+        }
+        System.exit(0);
+    }
+
+    private static double runHttp(int port, int concurrency, int users, long durationNanos) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .executor(executor)
+                    .build();
+            LongAdder completed = new LongAdder();
+            CountDownLatch latch = new CountDownLatch(concurrency);
+            long startedNanos = System.nanoTime();
+            long deadlineNanos = startedNanos + durationNanos;
+
+            for (int i = 0; i < concurrency; i++) {
+                sendHttp(httpClient, port, users, deadlineNanos, completed, latch);
+            }
+            latch.await();
+            return completed.sum() / ((System.nanoTime() - startedNanos) / 1e9);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sendHttp(HttpClient httpClient, int port, int users, long deadlineNanos, LongAdder completed, CountDownLatch latch) {
+        if (System.nanoTime() >= deadlineNanos) {
+            latch.countDown();
+            return;
+        }
+        long userId = ThreadLocalRandom.current().nextLong(1, users + 1);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId)).GET().build();
+        httpClient.sendAsync(request, BodyHandlers.ofByteArray())
+                .whenComplete((response, throwable) -> {
+                    if (throwable == null && response.statusCode() == 200) {
+                        completed.increment();
+                    }
+                    sendHttp(httpClient, port, users, deadlineNanos, completed, latch);
+                });
+    }
+
+    private static double runBinary(int port, int connections, int depth, int users, long durationNanos) throws InterruptedException {
+        LongAdder completed = new LongAdder();
+        long startedNanos = System.nanoTime();
+        long deadlineNanos = startedNanos + durationNanos;
+
+        List<Thread> threads = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    driveBinaryConnection(port, depth, users, deadlineNanos, completed);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return completed.sum() / ((System.nanoTime() - startedNanos) / 1e9);
+    }
+
+    /**
+     * 한 연결에 depth 개의 요청을 보내 두고, 응답을 하나 받을 때마다 요청을 하나 더 보냅니다.
+     */
+    private static void driveBinaryConnection(int port, int depth, int users, long deadlineNanos, LongAdder completed) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", port))) {
+            ByteBuffer out = ByteBuffer.allocateDirect(PointBinaryCodec.REQUEST_SIZE * depth);
+            ByteBuffer in = ByteBuffer.allocateDirect(64 * 1024);
+            long requestId = 0;
+            int inFlight = 0;
+
+            for (; inFlight < depth; inFlight++) {
+                PointBinaryCodec.encodeRequest(out, getPoint(++requestId, users));
+            }
+            while (inFlight > 0) {
+                out.flip();
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+                out.clear();
+
+                if (channel.read(in) < 0) {
+                    return;
+                }
+                in.flip();
+                while (PointBinaryCodec.decodeResponse(in) != null) {
+                    completed.increment();
+                    inFlight--;
+                    if (System.nanoTime() < deadlineNanos) {
+                        PointBinaryCodec.encodeRequest(out, getPoint(++requestId, users));
+                        inFlight++;
+                    }
+                }
+                in.compact();
+            }
+        }
+    }
+
+    private static Request getPoint(long requestId, int users) {
+        long userId = ThreadLocalRandom.current().nextLong(1, users + 1);
+        return new Request(PointBinaryCodec.OP_GET_POINT, requestId, userId, 0L, 0L);
+    }
+}
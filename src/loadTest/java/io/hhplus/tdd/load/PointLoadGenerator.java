@@ -0,0 +1,120 @@
+package io.hhplus.tdd.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델(open model)로 부하를 생성합니다.
+ * - 요청은 응답을 기다리지 않고 포아송 분포의 간격으로 미리 정해진 시점에 보냅니다.
+ *   따라서 서버가 느려져도 요청 속도가 줄지 않아, 실제 사용자 트래픽처럼 대기열이 쌓이는 상황을 재현합니다.
+ * - 지연 시간은 실제로 보낸 시점이 아닌 보냈어야 할 시점부터 측정합니다. (coordinated omission 보정)
+ * - 요청은 보낸 시점의 측정 결과에 기록합니다. 워밍업이 끝나면 측정 결과를 새로 만들어 교체하므로,
+ *   워밍업 중에 보내고 그 이후에 응답받은 요청이 본 측정 결과에 섞이지 않습니다.
+ */
+final class PointLoadGenerator {
+    private final LoadTestOptions options;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final ZipfDistribution userDistribution;
+    private final Semaphore inFlight;
+    private Map<Operation, OperationStats> stats = newStats();
+
+    PointLoadGenerator(LoadTestOptions options) {
+        this.options = options;
+        this.executor = Executors.newCachedThreadPool();
+        this.httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .build();
+        this.userDistribution = new ZipfDistribution(options.users(), options.skew());
+        this.inFlight = new Semaphore(options.maxInFlight());
+    }
+
+    /**
+     * 워밍업을 포함한 전체 시간 동안 부하를 보내고, 워밍업 이후 구간의 결과를 반환합니다.
+     * 응답을 기다리는 요청이 모두 끝나면 HttpClient 가 사용하는 스레드 풀을 종료합니다.
+     */
+    LoadReport run() throws InterruptedException {
+        try {
+            return generate();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private LoadReport generate() throws InterruptedException {
+        SplittableRandom random = new SplittableRandom();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+
+        long startedNanos = System.nanoTime();
+        long warmupEndNanos = startedNanos + options.warmup().toNanos();
+        long endNanos = warmupEndNanos + options.duration().toNanos();
+        long intendedNanos = startedNanos;
+        boolean warmingUp = !options.warmup().isZero();
+
+        while (true) {
+            intendedNanos += (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos);
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+            if (warmingUp && intendedNanos >= warmupEndNanos) {
+                stats = newStats();
+                warmingUp = false;
+            }
+
+            long waitNanos = intendedNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            send(nextOperation(random), userDistribution.sample(random), random.nextLong(1, options.maxAmount() + 1), intendedNanos);
+        }
+
+        // 응답을 기다리는 요청이 모두 끝날 때까지 대기
+        inFlight.acquire(options.maxInFlight());
+        inFlight.release(options.maxInFlight());
+        return LoadReport.of(stats, options.duration());
+    }
+
+    private static Map<Operation, OperationStats> newStats() {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        return stats;
+    }
+
+    private Operation nextOperation(SplittableRandom random) {
+        if (random.nextDouble() < options.readRatio()) {
+            return random.nextDouble() < options.historyRatio() ? Operation.GET_HISTORIES : Operation.GET_POINT;
+        }
+        return random.nextDouble() < options.chargeRatio() ? Operation.CHARGE : Operation.USE;
+    }
+
+    private void send(Operation operation, long userId, long amount, long intendedNanos) {
+        OperationStats operationStats = stats.get(operation);
+        if (!inFlight.tryAcquire()) {
+            operationStats.recordDropped();
+            return;
+        }
+
+        httpClient.sendAsync(operation.request(options.baseUrl(), userId, amount), BodyHandlers.discarding())
+                .whenComplete((response, throwable) -> {
+                    long latencyNanos = System.nanoTime() - intendedNanos;
+                    if (throwable != null) {
+                        operationStats.recordFailed(latencyNanos);
+                    } else if (response.statusCode() / 100 == 2) {
+                        operationStats.recordSuccess(latencyNanos);
+                    } else {
+                        operationStats.recordRejected(latencyNanos);
+                    }
+                    inFlight.release();
+                });
+    }
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.TddApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * PointController 에 실제 트래픽과 비슷한 부하를 보내고 결과를 출력합니다.
+ * load.baseUrl 을 지정하지 않으면 애플리케이션을 임의의 포트로 직접 띄운 뒤 부하를 보냅니다.
+ *
+ * <pre>
+ * ./gradlew loadTest -Dload.rate=500 -Dload.durationSeconds=120 -Dload.readRatio=0.9 -Dload.skew=1.2
+ * </pre>
+ */
+public class PointLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+
+        ConfigurableApplicationContext context = null;
+        if (options.baseUrl() == null) {
+            context = SpringApplication.run(TddApplication.class, "--server.port=0");
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            options = options.withBaseUrl("http://localhost:" + port);
+        }
+
+        try {
+            System.out.printf("부하 테스트를 시작합니다. baseUrl=%s, rate=%.1f/s, duration=%ds, warmup=%ds%n",
+                    options.baseUrl(), options.rate(), options.duration().toSeconds(), options.warmup().toSeconds());
+
+            LoadReport report = new PointLoadGenerator(options).run();
+            report.print(System.out);
+            report.write(options.reportDirectory());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(0);
+    }
+}
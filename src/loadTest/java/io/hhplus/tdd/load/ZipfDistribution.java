@@ -0,0 +1,30 @@
+package io.hhplus.tdd.load;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * 1 ~ n 사이의 값을 zipf 분포로 뽑습니다. 값이 작을수록 자주 뽑힙니다.
+ * 누적 확률을 미리 계산해 두고, 뽑을 때는 이진 탐색만 수행합니다.
+ */
+final class ZipfDistribution {
+    private final double[] cumulativeProbabilities;
+
+    ZipfDistribution(int n, double exponent) {
+        this.cumulativeProbabilities = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulativeProbabilities[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulativeProbabilities[i] /= sum;
+        }
+    }
+
+    long sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulativeProbabilities.length - 1) + 1L;
+    }
+}
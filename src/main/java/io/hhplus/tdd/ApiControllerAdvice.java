@@ -1,5 +1,8 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.service.PointLockTimeoutException;
+import io.hhplus.tdd.point.service.PointReconciliationThrottledException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -7,6 +10,26 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    /**
+     * 사용자 잠금을 기다리다 실패한 요청은 반영되지 않았으므로, 다시 시도할 수 있도록 503 을 반환합니다.
+     */
+    @ExceptionHandler(value = PointLockTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleLockTimeout(PointLockTimeoutException e) {
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("503", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    /**
+     * 요청으로 실행하는 정합성 검증은 간격을 제한하므로, 다시 요청할 수 있는 시간과 함께 429 를 반환합니다.
+     */
+    @ExceptionHandler(value = PointReconciliationThrottledException.class)
+    public ResponseEntity<ErrorResponse> handleReconciliationThrottled(PointReconciliationThrottledException e) {
+        return ResponseEntity.status(429)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse("429", "정합성 검증을 이미 수행 중이거나 최근에 수행했습니다. 잠시 후 다시 시도해주세요."));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 내부 서비스용 바이너리 프로토콜 설정
+ * - enabled : 바이너리 프로토콜 수신 여부
+ * - bindAddress : 수신할 주소, 내부 서비스만 접근하도록 기본값은 loopback 이며 외부 연결이 필요하면 내부망 인터페이스 주소를 지정
+ * - port : 수신 포트 (0 이면 임의의 포트)
+ * - workerThreads : PointService 를 호출할 스레드 수
+ * - maxPipelinedRequests : 연결별로 처리를 기다릴 수 있는 최대 요청 수 (초과하면 처리될 때까지 더 읽지 않습니다.)
+ * - bufferSize : 연결별로 재사용하는 읽기/쓰기 버퍼의 크기
+ */
+@ConfigurationProperties(prefix = "point.binary")
+public record PointBinaryProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("127.0.0.1") String bindAddress,
+        @DefaultValue("9090") int port,
+        @DefaultValue("200") int workerThreads,
+        @DefaultValue("1024") int maxPipelinedRequests,
+        @DefaultValue("8192") int bufferSize
+) {
+}
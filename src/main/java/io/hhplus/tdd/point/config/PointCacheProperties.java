@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔액/내역 저장소의 인스턴스 내부 보관 설정
+ * - maxUsers : 잔액과 사용자별 내역을 보관할 최대 사용자 수, 초과하면 보관 중인 사용자를 내보냅니다. (0 이면 보관하지 않음)
+ * 다른 인스턴스의 변경은 알 수 없으므로, point.lock.provider 가 distributed 이면 설정과 관계없이 보관하지 않습니다.
+ */
+@ConfigurationProperties(prefix = "point.cache")
+public record PointCacheProperties(
+        @DefaultValue("100000") int maxUsers
+) {
+    /**
+     * 여러 인스턴스가 같은 테이블을 변경하는 배포에서는 보관한 값이 다른 인스턴스의 변경을 놓치므로 보관하지 않습니다.
+     */
+    public int effectiveMaxUsers(PointLockProperties lockProperties) {
+        return "distributed".equals(lockProperties.provider()) ? 0 : Math.max(0, maxUsers);
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 만료 설정
+ * - period : 충전 후 만료까지의 기간
+ * - tick : 만료 처리 주기 (타이머 휠의 한 칸)
+ * - batchSize : 한 번에 처리할 만료 묶음 수
+ */
+@ConfigurationProperties(prefix = "point.expiration")
+public record PointExpirationProperties(
+        @DefaultValue("365d") Duration period,
+        @DefaultValue("1s") Duration tick,
+        @DefaultValue("1000") int batchSize
+) {
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 포인트 내역 내보내기 설정
+ * - enabled : 내보내기 수행 여부
+ * - directory : 내보낸 파일과 진행 위치(checkpoint)를 저장할 경로
+ * - interval : 새 내역을 확인하는 주기
+ * - batchSize : 내역을 한 번에 읽어올 개수
+ * - maxFileSize : 파일 하나에 기록할 최대 크기 (압축 전 기준, 초과하면 새 파일로 교체)
+ * - rotateInterval : 파일 하나에 기록할 최대 시간 (초과하면 새 파일로 교체)
+ */
+@ConfigurationProperties(prefix = "point.export")
+public record PointExportProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("point-export") String directory,
+        @DefaultValue("1s") Duration interval,
+        @DefaultValue("10000") int batchSize,
+        @DefaultValue("64MB") DataSize maxFileSize,
+        @DefaultValue("1h") Duration rotateInterval
+) {
+}
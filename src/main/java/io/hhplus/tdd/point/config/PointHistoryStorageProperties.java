@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 내역 저장소 설정
+ * - storage : 내역 저장 방식 (table : PointHistoryTable 에 저장, tiered : 최근 내역은 메모리에, 오래된 내역은 압축해서 저장)
+ * - hotAge : 압축하지 않고 유지할 최근 내역의 기간
+ * - maxHotRows : 압축하지 않고 유지할 최대 내역 수, 초과하면 기간과 관계없이 오래된 내역부터 압축
+ * - blockSize : 압축 블록 하나에 담을 최대 내역 수
+ * - compactionInterval : 오래된 내역을 압축하는 주기
+ */
+@ConfigurationProperties(prefix = "point.history")
+public record PointHistoryStorageProperties(
+        @DefaultValue("table") String storage,
+        @DefaultValue("1m") Duration hotAge,
+        @DefaultValue("100000") int maxHotRows,
+        @DefaultValue("256") int blockSize,
+        @DefaultValue("1s") Duration compactionInterval
+) {
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 요청이 몰리는 사용자(hot user) 감지 설정
+ * - capacity : 요청 수를 추적할 최대 사용자 수
+ * - sampleRate : 집계할 쓰기 요청의 비율 (모든 요청을 집계하지 않아 감지 비용을 줄입니다.)
+ * - hotShare : 집계된 요청 중 이 비율 이상을 차지하는 사용자를 hot user 로 판단
+ * - minSamples : hot user 로 판단하기 위한 최소 집계 요청 수 (요청이 적을 때 잘못 판단하지 않도록 합니다.)
+ * - window : 집계 값을 절반으로 줄이는 주기 (최근 요청에 더 큰 비중을 둡니다.)
+ * - combiningBatchSize : hot user 의 요청을 한 번에 모아 처리할 최대 개수
+ * - combiningTimeBudget : 한 번에 모아 처리하는 요청의 예상 반영 시간 상한 (락을 잡고 있는 시간이 이 값 근처로 유지되도록 묶음 크기를 줄입니다.)
+ * - refreshInterval : 요청 경로에서 모아 둔 표본을 집계에 반영하고 hot user 목록을 다시 계산하는 주기
+ */
+@ConfigurationProperties(prefix = "point.hot-user")
+public record PointHotUserProperties(
+        @DefaultValue("64") int capacity,
+        @DefaultValue("0.1") double sampleRate,
+        @DefaultValue("0.05") double hotShare,
+        @DefaultValue("20") long minSamples,
+        @DefaultValue("10s") Duration window,
+        @DefaultValue("64") int combiningBatchSize,
+        @DefaultValue("500ms") Duration combiningTimeBudget,
+        @DefaultValue("100ms") Duration refreshInterval
+) {
+}
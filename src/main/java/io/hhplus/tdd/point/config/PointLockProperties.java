@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 잠금 설정
+ * - provider : 잠금 방식 (local: 프로세스 내부 잠금, distributed: 여러 인스턴스가 공유하는 잠금)
+ * - store : distributed 잠금의 저장소 (memory: 프로세스 내부 대체 저장소, redis: Redis)
+ * - leaseTime : 잠금 보유 기간, 보유한 인스턴스가 멈추더라도 이 시간이 지나면 다른 인스턴스가 잠금을 획득할 수 있음
+ * - waitTimeout : distributed 잠금을 기다리는 최대 시간, 초과하면 다시 시도할 수 있는 에러로 실패 (local 잠금은 획득할 때까지 기다림)
+ * - retryInterval : 다른 인스턴스가 보유한 잠금의 획득을 다시 시도하는 간격
+ * - redisAddress : store 가 redis 인 경우 접속할 주소
+ * - keyPrefix : 저장소에 기록할 잠금 key 의 접두사
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record PointLockProperties(
+        @DefaultValue("local") String provider,
+        @DefaultValue("memory") String store,
+        @DefaultValue("5s") Duration leaseTime,
+        @DefaultValue("10s") Duration waitTimeout,
+        @DefaultValue("10ms") Duration retryInterval,
+        @DefaultValue("redis://localhost:6379") String redisAddress,
+        @DefaultValue("point:lock:") String keyPrefix
+) {
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 포인트 정책 설정
+ * - defaultTier : 등급이 지정되지 않은 사용자에게 적용할 등급
+ * - tiers : 등급별 한도
+ * - userTiers : 사용자별 등급
+ * - reloadLocation : 정책을 다시 읽어올 외부 설정 파일 경로 (지정하지 않으면 다시 읽지 않습니다.)
+ * - reloadInterval : 외부 설정 파일의 변경 여부를 확인하는 주기
+ */
+@ConfigurationProperties(prefix = "point.policy")
+public record PointPolicyProperties(
+        @DefaultValue("basic") String defaultTier,
+        Map<String, Tier> tiers,
+        Map<Long, String> userTiers,
+        String reloadLocation,
+        @DefaultValue("10s") Duration reloadInterval
+) {
+
+    /**
+     * 등급별 한도
+     * - maxBalance : 최대 잔액
+     * - maxChargeAmount : 1회 최대 충전 금액
+     * - maxUseAmount : 1회 최대 사용 금액
+     * - dailyChargeLimit : 하루 최대 충전 금액
+     */
+    public record Tier(
+            @DefaultValue("1000000") long maxBalance,
+            @DefaultValue("9223372036854775807") long maxChargeAmount,
+            @DefaultValue("9223372036854775807") long maxUseAmount,
+            @DefaultValue("9223372036854775807") long dailyChargeLimit
+    ) {
+    }
+}
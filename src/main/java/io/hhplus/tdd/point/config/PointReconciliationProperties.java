@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 정합성 검증 설정
+ * - cron : 검증 주기
+ * - batchSize : 내역을 한 번에 읽어올 개수
+ * - parallelism : 집계 및 검증에 사용할 스레드 수
+ * - snapshotLocation : 검증 위치(checkpoint)와 사용자별 내역 합계를 저장할 파일 경로 (지정하지 않으면 메모리에만 보관해, 재시작하면 처음부터 검증합니다.)
+ * - manualInterval : 요청(POST /point/reconciliation)으로 검증을 실행할 수 있는 최소 간격 (마지막 검증 시작 시각 기준)
+ */
+@ConfigurationProperties(prefix = "point.reconciliation")
+public record PointReconciliationProperties(
+        @DefaultValue("0 0 * * * *") String cron,
+        @DefaultValue("10000") int batchSize,
+        @DefaultValue("4") int parallelism,
+        String snapshotLocation,
+        @DefaultValue("1m") Duration manualInterval
+) {
+}
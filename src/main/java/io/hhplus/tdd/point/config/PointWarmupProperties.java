@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 시작 시 워밍업 설정 (워밍업이 끝난 뒤에 요청을 받을 준비가 된 것으로 보고합니다.)
+ * - enabled : 워밍업 수행 여부
+ * - userIds : 잔액과 내역을 미리 읽어둘 사용자
+ * - topUsers : 내역이 많은 순서로 추가로 미리 읽어둘 사용자 수
+ * - scanLimit : 내역이 많은 사용자를 찾기 위해 읽을 최근 내역 수
+ * - parallelism : 미리 읽기에 사용할 최대 스레드 수
+ * - iterations : JIT 컴파일을 위해 포인트 처리 로직을 반복 수행할 횟수
+ * - timeout : 워밍업 최대 수행 시간 (초과하면 남은 작업을 중단하고 요청을 받습니다.)
+ */
+@ConfigurationProperties(prefix = "point.warmup")
+public record PointWarmupProperties(
+        @DefaultValue("true") boolean enabled,
+        List<Long> userIds,
+        @DefaultValue("100") int topUsers,
+        @DefaultValue("100000") int scanLimit,
+        @DefaultValue("8") int parallelism,
+        @DefaultValue("10000") int iterations,
+        @DefaultValue("60s") Duration timeout
+) {
+}
@@ -0,0 +1,176 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.dto.PointTransferResponse;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 내부 서비스용 고정 길이 바이너리 프로토콜 (모든 값은 big-endian)
+ *
+ * <pre>
+ * 요청 (33 bytes)
+ *   op(1) | requestId(8) | userId(8) | amount(8) | receiverId(8)
+ *   - amount 는 CHARGE, USE, TRANSFER 에서만, receiverId 는 TRANSFER 에서만 사용합니다.
+ *
+ * 응답
+ *   requestId(8) | op(1) | status(1) | bodyLength(4) | body
+ *   - UserPoint : id(8) | point(8) | updateMillis(8)
+ *   - GET_HISTORIES : count(4) | [id(8) | userId(8) | amount(8) | type(1) | updateMillis(8)] * count
+ *   - TRANSFER : 보내는 사용자 UserPoint | 받는 사용자 UserPoint
+ *   - 실패 : UTF-8 메시지
+ * </pre>
+ * 요청은 응답을 기다리지 않고 연속해서 보낼 수 있으며(pipelining), 응답은 연결별로 요청 순서대로 돌려줍니다.
+ */
+public final class PointBinaryCodec {
+    public static final byte OP_GET_POINT = 1;
+    public static final byte OP_GET_HISTORIES = 2;
+    public static final byte OP_CHARGE = 3;
+    public static final byte OP_USE = 4;
+    public static final byte OP_TRANSFER = 5;
+
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_REJECTED = 1;
+    public static final byte STATUS_ERROR = 2;
+    /**
+     * 사용자 잠금을 기다리다 실패해 반영하지 않은 요청, 같은 요청을 다시 보낼 수 있습니다.
+     */
+    public static final byte STATUS_RETRYABLE = 3;
+
+    public static final int REQUEST_SIZE = 1 + Long.BYTES * 4;
+    public static final int RESPONSE_HEADER_SIZE = Long.BYTES + 1 + 1 + Integer.BYTES;
+    private static final int USER_POINT_SIZE = Long.BYTES * 3;
+    private static final int HISTORY_SIZE = Long.BYTES * 4 + 1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private PointBinaryCodec() {
+    }
+
+    public record Request(byte op, long requestId, long userId, long amount, long receiverId) {
+    }
+
+    public record Response(long requestId, byte op, byte status, ByteBuffer body) {
+    }
+
+    // 요청
+
+    public static void encodeRequest(ByteBuffer buffer, Request request) {
+        buffer.put(request.op())
+                .putLong(request.requestId())
+                .putLong(request.userId())
+                .putLong(request.amount())
+                .putLong(request.receiverId());
+    }
+
+    /**
+     * 요청 하나를 읽을 수 있으면 읽어서 반환하고, 아직 다 도착하지 않았다면 null 을 반환합니다.
+     */
+    public static Request decodeRequest(ByteBuffer buffer) {
+        if (buffer.remaining() < REQUEST_SIZE) {
+            return null;
+        }
+        return new Request(buffer.get(), buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    // 응답
+
+    public static int userPointResponseSize() {
+        return RESPONSE_HEADER_SIZE + USER_POINT_SIZE;
+    }
+
+    public static int historiesResponseSize(int count) {
+        return RESPONSE_HEADER_SIZE + Integer.BYTES + HISTORY_SIZE * count;
+    }
+
+    public static int transferResponseSize() {
+        return RESPONSE_HEADER_SIZE + USER_POINT_SIZE * 2;
+    }
+
+    public static void encodeUserPoint(ByteBuffer buffer, long requestId, byte op, UserPoint userPoint) {
+        putHeader(buffer, requestId, op, STATUS_OK, USER_POINT_SIZE);
+        putUserPoint(buffer, userPoint);
+    }
+
+    public static void encodeHistories(ByteBuffer buffer, long requestId, List<PointHistory> histories) {
+        putHeader(buffer, requestId, OP_GET_HISTORIES, STATUS_OK, Integer.BYTES + HISTORY_SIZE * histories.size());
+        buffer.putInt(histories.size());
+        for (PointHistory history : histories) {
+            buffer.putLong(history.id())
+                    .putLong(history.userId())
+                    .putLong(history.amount())
+                    .put((byte) history.type().ordinal())
+                    .putLong(history.updateMillis());
+        }
+    }
+
+    public static void encodeTransfer(ByteBuffer buffer, long requestId, PointTransferResponse response) {
+        putHeader(buffer, requestId, OP_TRANSFER, STATUS_OK, USER_POINT_SIZE * 2);
+        putUserPoint(buffer, response.sender());
+        putUserPoint(buffer, response.receiver());
+    }
+
+    public static byte[] errorMessage(String message) {
+        return (message != null ? message : "").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void encodeError(ByteBuffer buffer, long requestId, byte op, byte status, byte[] message) {
+        putHeader(buffer, requestId, op, status, message.length);
+        buffer.put(message);
+    }
+
+    /**
+     * 응답 하나를 읽을 수 있으면 읽어서 반환하고, 아직 다 도착하지 않았다면 null 을 반환합니다.
+     */
+    public static Response decodeResponse(ByteBuffer buffer) {
+        if (buffer.remaining() < RESPONSE_HEADER_SIZE) {
+            return null;
+        }
+        int bodyLength = buffer.getInt(buffer.position() + Long.BYTES + 2);
+        if (buffer.remaining() < RESPONSE_HEADER_SIZE + bodyLength) {
+            return null;
+        }
+        long requestId = buffer.getLong();
+        byte op = buffer.get();
+        byte status = buffer.get();
+        buffer.getInt();
+
+        ByteBuffer body = ByteBuffer.allocate(bodyLength);
+        buffer.get(body.array());
+        return new Response(requestId, op, status, body);
+    }
+
+    public static UserPoint readUserPoint(ByteBuffer body) {
+        return new UserPoint(body.getLong(), body.getLong(), body.getLong());
+    }
+
+    public static List<PointHistory> readHistories(ByteBuffer body) {
+        int count = body.getInt();
+        List<PointHistory> histories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            histories.add(new PointHistory(body.getLong(), body.getLong(), body.getLong(), TYPES[body.get()], body.getLong()));
+        }
+        return histories;
+    }
+
+    public static String readMessage(ByteBuffer body) {
+        return new String(body.array(), body.position(), body.remaining(), StandardCharsets.UTF_8);
+    }
+
+    private static void putHeader(ByteBuffer buffer, long requestId, byte op, byte status, int bodyLength) {
+        buffer.putLong(requestId)
+                .put(op)
+                .put(status)
+                .putInt(bodyLength);
+    }
+
+    private static void putUserPoint(ByteBuffer buffer, UserPoint userPoint) {
+        buffer.putLong(userPoint.id())
+                .putLong(userPoint.point())
+                .putLong(userPoint.updateMillis());
+    }
+}
@@ -0,0 +1,406 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.config.PointBinaryProperties;
+import io.hhplus.tdd.point.controller.PointBinaryCodec.Request;
+import io.hhplus.tdd.point.dto.PointChargeRequest;
+import io.hhplus.tdd.point.dto.PointTransferRequest;
+import io.hhplus.tdd.point.dto.PointTransferResponse;
+import io.hhplus.tdd.point.dto.PointUseRequest;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.service.PointLockTimeoutException;
+import io.hhplus.tdd.point.service.PointService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 내부 서비스용 바이너리 프로토콜(PointBinaryCodec)을 TCP 로 수신해 PointService 를 호출합니다. (point.binary.enabled=true)
+ * - 하나의 selector 스레드가 모든 연결의 읽기/쓰기를 담당하고, PointService 호출은 작업 스레드에서 수행합니다.
+ * - 한 연결의 요청은 도착한 순서대로 하나씩 처리되므로, 같은 연결로 보낸 충전 -> 사용 요청의 순서가 보장됩니다.
+ *   요청은 응답을 기다리지 않고 연속해서 보낼 수 있고(pipelining), 처리량은 연결 수를 늘려 확보합니다.
+ * - 읽기/쓰기 버퍼는 bufferSize 크기의 direct buffer 를 풀에서 꺼내 재사용합니다. (이보다 큰 응답만 별도로 할당)
+ * HTTP 와 마찬가지로 애플리케이션이 요청을 받을 준비가 된 뒤에 수신을 시작하며, 기본적으로 loopback 주소에서만 수신합니다. (point.binary.bind-address)
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.binary", name = "enabled", havingValue = "true")
+public class PointBinaryServer {
+    private static final Logger log = LoggerFactory.getLogger(PointBinaryServer.class);
+    private static final int MAX_POOLED_BUFFERS = 4096;
+
+    private final PointService pointService;
+    private final PointBinaryProperties properties;
+    private final Queue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBufferCount = new AtomicInteger();
+    /**
+     * 풀이 비어 새로 할당한 direct 버퍼 수, 반환되지 않는 버퍼가 있다면 요청 수에 비례해 늘어납니다.
+     */
+    private final AtomicLong allocatedBufferCount = new AtomicLong();
+    private final Queue<Connection> interestUpdates = new ConcurrentLinkedQueue<>();
+
+    private ExecutorService workers;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+    private volatile boolean running;
+
+    public PointBinaryServer(PointService pointService, PointBinaryProperties properties) {
+        this.pointService = pointService;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(properties.bindAddress(), properties.port()));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        workers = Executors.newFixedThreadPool(properties.workerThreads());
+        running = true;
+        selectorThread = new Thread(this::loop, "point-binary-selector");
+        selectorThread.start();
+        log.info("바이너리 프로토콜 수신을 시작합니다. address={}", getAddress());
+    }
+
+    public InetSocketAddress getAddress() throws IOException {
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+
+    public int getPort() throws IOException {
+        return getAddress().getPort();
+    }
+
+    long allocatedBufferCount() {
+        return allocatedBufferCount.get();
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        selectorThread.join(TimeUnit.SECONDS.toMillis(5));
+        workers.shutdownNow();
+    }
+
+    private void loop() {
+        try {
+            while (running) {
+                selector.select();
+
+                Connection updated;
+                while ((updated = interestUpdates.poll()) != null) {
+                    updated.flush();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.flush();
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("바이너리 프로토콜 수신 중 오류가 발생했습니다.", e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection connection) {
+                    connection.close();
+                }
+            }
+            closeQuietly(serverChannel);
+            closeQuietly(selector);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        Connection connection = new Connection(channel);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+    }
+
+    /**
+     * 서비스 호출이 끝난 뒤에 응답 버퍼를 가져오므로, 요청이 실패해도 가져온 버퍼를 반환하지 못하는 경우가 없습니다.
+     */
+    private ByteBuffer handle(Request request) {
+        ByteBuffer buffer = null;
+        try {
+            switch (request.op()) {
+                case PointBinaryCodec.OP_GET_POINT -> {
+                    UserPoint userPoint = pointService.getPoint(request.userId());
+                    buffer = acquire(PointBinaryCodec.userPointResponseSize());
+                    PointBinaryCodec.encodeUserPoint(buffer, request.requestId(), request.op(), userPoint);
+                }
+                case PointBinaryCodec.OP_GET_HISTORIES -> {
+                    List<PointHistory> histories = pointService.getHistories(request.userId());
+                    buffer = acquire(PointBinaryCodec.historiesResponseSize(histories.size()));
+                    PointBinaryCodec.encodeHistories(buffer, request.requestId(), histories);
+                }
+                case PointBinaryCodec.OP_CHARGE -> {
+                    UserPoint userPoint = pointService.charge(request.userId(), new PointChargeRequest(request.amount()));
+                    buffer = acquire(PointBinaryCodec.userPointResponseSize());
+                    PointBinaryCodec.encodeUserPoint(buffer, request.requestId(), request.op(), userPoint);
+                }
+                case PointBinaryCodec.OP_USE -> {
+                    UserPoint userPoint = pointService.use(request.userId(), new PointUseRequest(request.amount()));
+                    buffer = acquire(PointBinaryCodec.userPointResponseSize());
+                    PointBinaryCodec.encodeUserPoint(buffer, request.requestId(), request.op(), userPoint);
+                }
+                case PointBinaryCodec.OP_TRANSFER -> {
+                    PointTransferResponse transferred = pointService.transfer(
+                            new PointTransferRequest(request.userId(), request.receiverId(), request.amount()));
+                    buffer = acquire(PointBinaryCodec.transferResponseSize());
+                    PointBinaryCodec.encodeTransfer(buffer, request.requestId(), transferred);
+                }
+                default -> buffer = error(request, PointBinaryCodec.STATUS_REJECTED, "지원하지 않는 요청입니다. op=" + request.op());
+            }
+        } catch (IllegalArgumentException e) {
+            buffer = replaceWithError(buffer, request, PointBinaryCodec.STATUS_REJECTED, e.getMessage());
+        } catch (PointLockTimeoutException e) {
+            buffer = replaceWithError(buffer, request, PointBinaryCodec.STATUS_RETRYABLE, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("바이너리 요청 처리 중 오류가 발생했습니다. op={}, userId={}", request.op(), request.userId(), e);
+            buffer = replaceWithError(buffer, request, PointBinaryCodec.STATUS_ERROR, "에러가 발생했습니다.");
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * 응답을 인코딩하는 도중 실패했다면 가져온 버퍼를 반환하고 실패 응답을 만듭니다.
+     */
+    private ByteBuffer replaceWithError(ByteBuffer acquired, Request request, byte status, String message) {
+        if (acquired != null) {
+            release(acquired);
+        }
+        return error(request, status, message);
+    }
+
+    private ByteBuffer error(Request request, byte status, String message) {
+        byte[] encoded = PointBinaryCodec.errorMessage(message);
+        ByteBuffer buffer = acquire(PointBinaryCodec.RESPONSE_HEADER_SIZE + encoded.length);
+        PointBinaryCodec.encodeError(buffer, request.requestId(), request.op(), status, encoded);
+        return buffer;
+    }
+
+    private ByteBuffer acquire(int size) {
+        if (size > properties.bufferSize()) {
+            return ByteBuffer.allocate(size);
+        }
+        ByteBuffer buffer = bufferPool.poll();
+        if (buffer == null) {
+            allocatedBufferCount.incrementAndGet();
+            return ByteBuffer.allocateDirect(properties.bufferSize());
+        }
+        pooledBufferCount.decrementAndGet();
+        return buffer;
+    }
+
+    private void release(ByteBuffer buffer) {
+        if (!buffer.isDirect() || buffer.capacity() != properties.bufferSize()) {
+            return;
+        }
+        if (pooledBufferCount.incrementAndGet() > MAX_POOLED_BUFFERS) {
+            pooledBufferCount.decrementAndGet();
+            return;
+        }
+        bufferPool.offer(buffer.clear());
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            if (closeable != null) {
+                closeable.close();
+            }
+        } catch (Exception ignored) {
+
+        }
+    }
+
+    /**
+     * 연결별 상태
+     * 읽기/쓰기와 관심 이벤트 변경은 selector 스레드에서만, 요청 처리는 작업 스레드에서 한 번에 하나씩 수행합니다.
+     */
+    private class Connection {
+        private final SocketChannel channel;
+        private final ByteBuffer readBuffer = acquire(properties.bufferSize());
+        private final ArrayDeque<Request> pending = new ArrayDeque<>();
+        private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+        private SelectionKey key;
+        private ByteBuffer writing;
+        private boolean processing;
+        /**
+         * 작업 스레드가 응답을 추가한 뒤 연결이 닫혔는지 확인하므로 volatile 로 선언합니다.
+         */
+        private volatile boolean closed;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void read() {
+            try {
+                if (channel.read(readBuffer) < 0) {
+                    close();
+                    return;
+                }
+            } catch (IOException e) {
+                close();
+                return;
+            }
+
+            readBuffer.flip();
+            Request request;
+            while ((request = PointBinaryCodec.decodeRequest(readBuffer)) != null) {
+                enqueue(request);
+            }
+            readBuffer.compact();
+            updateInterest();
+        }
+
+        void flush() {
+            if (closed) {
+                return;
+            }
+            try {
+                while (writing != null || (writing = outbound.poll()) != null) {
+                    channel.write(writing);
+                    if (writing.hasRemaining()) {
+                        break;
+                    }
+                    release(writing);
+                    writing = null;
+                }
+            } catch (IOException e) {
+                close();
+                return;
+            }
+            updateInterest();
+        }
+
+        private void enqueue(Request request) {
+            synchronized (this) {
+                pending.add(request);
+                if (processing) {
+                    return;
+                }
+                processing = true;
+            }
+            workers.execute(this::process);
+        }
+
+        private void process() {
+            while (true) {
+                Request request;
+                synchronized (this) {
+                    request = pending.poll();
+                    if (request == null || closed) {
+                        processing = false;
+                        return;
+                    }
+                }
+                outbound.add(handle(request));
+                // 응답을 추가하기 전에 연결이 닫혔다면, 닫으면서 비운 뒤에 추가된 버퍼이므로 직접 반환합니다.
+                if (closed) {
+                    releaseOutbound();
+                    continue;
+                }
+                interestUpdates.add(this);
+                selector.wakeup();
+            }
+        }
+
+        private void updateInterest() {
+            if (closed || !key.isValid()) {
+                return;
+            }
+            int ops = 0;
+            synchronized (this) {
+                // 처리를 기다리는 요청이 많으면 처리될 때까지 더 읽지 않습니다.
+                if (pending.size() < properties.maxPipelinedRequests()) {
+                    ops |= SelectionKey.OP_READ;
+                }
+            }
+            if (writing != null || !outbound.isEmpty()) {
+                ops |= SelectionKey.OP_WRITE;
+            }
+            key.interestOps(ops);
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                pending.clear();
+            }
+            if (key != null) {
+                key.cancel();
+            }
+            closeQuietly(channel);
+            release(readBuffer);
+            if (writing != null) {
+                release(writing);
+            }
+            releaseOutbound();
+        }
+
+        /**
+         * 닫는 스레드와 작업 스레드가 동시에 호출해도, 버퍼는 한 번씩만 반환됩니다.
+         */
+        private void releaseOutbound() {
+            ByteBuffer buffer;
+            while ((buffer = outbound.poll()) != null) {
+                release(buffer);
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.service.PointService;
 import io.hhplus.tdd.point.entity.UserPoint;
 import io.hhplus.tdd.point.dto.PointChargeRequest;
+import io.hhplus.tdd.point.dto.PointTransferRequest;
+import io.hhplus.tdd.point.dto.PointTransferResponse;
 import io.hhplus.tdd.point.dto.PointUseRequest;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -61,4 +63,14 @@ public class PointController {
     ) {
         return pointService.use(id, request);
     }
+
+    /**
+     * 특정 유저의 포인트를 다른 유저에게 송금합니다.
+     */
+    @PostMapping("transfer")
+    public PointTransferResponse transfer(
+            @RequestBody PointTransferRequest request
+    ) {
+        return pointService.transfer(request);
+    }
 }
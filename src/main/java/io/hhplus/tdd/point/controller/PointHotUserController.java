@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.dto.PointHotUser;
+import io.hhplus.tdd.point.service.HotUserDetector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/point/hot-users")
+public class PointHotUserController {
+    private final HotUserDetector hotUserDetector;
+
+    /**
+     * 쓰기 요청이 몰려 요청을 모아서 처리 중인 사용자를 조회합니다.
+     */
+    @GetMapping
+    public List<PointHotUser> hotUsers() {
+        return hotUserDetector.getHotUsers();
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.dto.PointReconciliationReport;
+import io.hhplus.tdd.point.service.PointReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/point/reconciliation")
+public class PointReconciliationController {
+    private final PointReconciliationService pointReconciliationService;
+
+    /**
+     * 마지막 정합성 검증 결과를 조회합니다.
+     */
+    @GetMapping
+    public PointReconciliationReport lastReport() {
+        return pointReconciliationService.getLastReport();
+    }
+
+    /**
+     * 정합성 검증을 즉시 수행합니다.
+     * 전체 내역을 읽는 작업이므로, 검증이 진행 중이거나 point.reconciliation.manual-interval 안에 다시 요청하면 429 를 반환합니다.
+     */
+    @PostMapping
+    public PointReconciliationReport reconcile() {
+        return pointReconciliationService.reconcileOnRequest();
+    }
+}
@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point.dto;
+
+public record PointDiscrepancy(
+        long userId,
+        long point,
+        long historySum
+) {
+}
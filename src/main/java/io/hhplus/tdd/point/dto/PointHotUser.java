@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * hot user 감지 결과
+ * - count : 집계된 요청 수 (실제보다 최대 error 만큼 많을 수 있습니다.)
+ * - share : 전체 집계 요청 중 차지하는 비율
+ */
+public record PointHotUser(
+        long userId,
+        long count,
+        long error,
+        double share
+) {
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.dto;
+
+import java.util.List;
+
+public record PointReconciliationReport(
+        long checkpointId,
+        long scannedCount,
+        long checkedUserCount,
+        List<PointDiscrepancy> discrepancies,
+        long startedMillis,
+        long elapsedMillis
+) {
+
+    public static PointReconciliationReport empty() {
+        return new PointReconciliationReport(0, 0, 0, List.of(), 0, 0);
+    }
+}
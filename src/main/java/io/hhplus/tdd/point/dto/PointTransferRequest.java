@@ -0,0 +1,4 @@
+package io.hhplus.tdd.point.dto;
+
+public record PointTransferRequest(long senderId, long receiverId, long amount) {
+}
@@ -0,0 +1,6 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+public record PointTransferResponse(UserPoint sender, UserPoint receiver) {
+}
@@ -9,4 +9,11 @@ public record PointHistory(
         TransactionType type,
         long updateMillis
 ) {
+
+    /**
+     * 잔액에 반영된 방향을 포함한 금액 (충전: +, 사용/만료: -)
+     */
+    public long signedAmount() {
+        return type == TransactionType.CHARGE ? amount : -amount;
+    }
 }
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.entity;
+
+/**
+ * 만료 시점을 가지는 충전 포인트 묶음
+ * - amount : 충전된 포인트
+ * - remaining : 사용되거나 만료되지 않고 남아있는 포인트
+ */
+public record PointLot(
+        long id,
+        long userId,
+        long amount,
+        long remaining,
+        long expireMillis
+) {
+
+    public PointLot withRemaining(long remaining) {
+        return new PointLot(id, userId, amount, remaining, expireMillis);
+    }
+}
@@ -5,7 +5,18 @@ package io.hhplus.tdd.point.entity.type;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - EXPIRE : 만료
  */
 public enum TransactionType {
-    CHARGE, USE
-}
\ No newline at end of file
+    CHARGE, USE, EXPIRE;
+
+    /**
+     * 잘못 반영된 내역을 상쇄할 때 사용하는 반대 트랜잭션 종류
+     */
+    public TransactionType reverse() {
+        return switch (this) {
+            case CHARGE -> USE;
+            case USE, EXPIRE -> CHARGE;
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내부에서 동작하는 잠금 저장소
+ * 같은 저장소를 공유하는 여러 LockProvider 를 하나의 프로세스에 띄워, Redis 없이 여러 인스턴스 상황을 검증하는 용도로 사용합니다.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "point.lock", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLockStore implements LockStore {
+    private final Clock clock;
+    /**
+     * 해제된 잠금도 마지막 fencing token 을 유지하기 위해 owner 만 비워서 보관합니다.
+     */
+    private final ConcurrentHashMap<String, Lease> leases = new ConcurrentHashMap<>();
+
+    public InMemoryLockStore() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemoryLockStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public long tryAcquire(String key, String owner, Duration leaseTime) {
+        long now = clock.millis();
+        Lease lease = leases.compute(key, (k, existing) -> {
+            if (existing != null && existing.isHeld(now) && !existing.owner().equals(owner)) {
+                return existing;
+            }
+            long token = existing == null ? 1L : existing.fencingToken() + 1;
+            return new Lease(owner, token, now + leaseTime.toMillis());
+        });
+        return owner.equals(lease.owner()) && lease.expiresAtMillis() > now ? lease.fencingToken() : -1L;
+    }
+
+    @Override
+    public boolean release(String key, String owner, long fencingToken) {
+        boolean[] released = {false};
+        leases.computeIfPresent(key, (k, existing) -> {
+            if (!existing.isHeldBy(owner, fencingToken)) {
+                return existing;
+            }
+            released[0] = true;
+            return new Lease(null, existing.fencingToken(), 0L);
+        });
+        return released[0];
+    }
+
+    @Override
+    public boolean validate(String key, String owner, long fencingToken, Duration leaseTime) {
+        long now = clock.millis();
+        boolean[] valid = {false};
+        leases.computeIfPresent(key, (k, existing) -> {
+            if (!existing.isHeldBy(owner, fencingToken) || !existing.isHeld(now)) {
+                return existing;
+            }
+            valid[0] = true;
+            return new Lease(owner, fencingToken, now + leaseTime.toMillis());
+        });
+        return valid[0];
+    }
+
+    private record Lease(String owner, long fencingToken, long expiresAtMillis) {
+        boolean isHeld(long now) {
+            return owner != null && expiresAtMillis > now;
+        }
+
+        boolean isHeldBy(String owner, long fencingToken) {
+            return Objects.equals(this.owner, owner) && this.fencingToken == fencingToken;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.repository;
+
+import java.time.Duration;
+
+/**
+ * 여러 인스턴스가 공유하는 잠금 저장소
+ * - 잠금을 획득할 때마다 key 별로 증가하는 fencing token 을 발급합니다.
+ * - 잠금은 leaseTime 이 지나면 자동으로 해제됩니다.
+ */
+public interface LockStore {
+    /**
+     * 잠금을 획득하고 fencing token 을 반환합니다. 다른 소유자가 잠금을 보유 중이면 -1 을 반환합니다.
+     */
+    long tryAcquire(String key, String owner, Duration leaseTime);
+
+    /**
+     * 소유자와 fencing token 이 일치하는 경우에만 잠금을 해제합니다.
+     */
+    boolean release(String key, String owner, long fencingToken);
+
+    /**
+     * 소유자와 fencing token 이 일치하고 lease 가 남아있는지 확인하고, 유효하다면 lease 를 leaseTime 만큼 연장합니다.
+     */
+    boolean validate(String key, String owner, long fencingToken, Duration leaseTime);
+}
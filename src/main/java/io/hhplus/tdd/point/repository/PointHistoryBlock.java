@@ -0,0 +1,193 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 여러 사용자의 포인트 내역을 id 순서로 압축해 힙 밖(direct buffer)에 보관합니다.
+ * - id 와 updateMillis 는 직전 내역과의 차이만, 사용자 id 와 금액은 그대로 varint 로 기록합니다.
+ * - 트랜잭션 종류는 id 차이의 하위 2비트에 함께 기록합니다.
+ * - RESTART_INTERVAL 개마다 id 와 updateMillis 를 그대로 기록하고 그 위치(restart)를 보관합니다.
+ *   블록 안의 몇 번째 내역인지 알면, 블록 전체가 아니라 가장 가까운 restart 부터 최대 RESTART_INTERVAL 개만 복원합니다.
+ * - 블록의 id 는 빈틈없이 이어지므로, 블록 안의 위치는 id - firstId 입니다.
+ * - 블록은 한 번 만들어지면 변경되지 않습니다.
+ */
+final class PointHistoryBlock {
+    static final int RESTART_INTERVAL = 16;
+    /**
+     * 블록 하나가 데이터 외에 차지하는 힙 크기 추정치
+     * (PointHistoryBlock, DirectByteBuffer 와 해제를 위한 Cleaner/Deallocator 객체, restart 배열 header, 블록 목록 항목)
+     */
+    static final int OVERHEAD_BYTES = 40 + 64 + 48 + 32 + 16 + 8;
+
+    private static final int TYPE_BITS = 2;
+    private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final long firstId;
+    private final long lastId;
+    private final int count;
+    private final ByteBuffer data;
+    private final int[] restartOffsets;
+
+    private PointHistoryBlock(long firstId, long lastId, int count, ByteBuffer data, int[] restartOffsets) {
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.count = count;
+        this.data = data;
+        this.restartOffsets = restartOffsets;
+    }
+
+    /**
+     * id 오름차순으로 정렬된 내역을 압축합니다.
+     */
+    static PointHistoryBlock encode(List<PointHistory> rows) {
+        // varint 는 값 하나에 최대 10바이트를 사용합니다.
+        byte[] buffer = new byte[rows.size() * 40];
+        int[] restartOffsets = new int[(rows.size() + RESTART_INTERVAL - 1) / RESTART_INTERVAL];
+        int position = 0;
+        long previousId = 0;
+        long previousMillis = 0;
+
+        for (int i = 0; i < rows.size(); i++) {
+            PointHistory row = rows.get(i);
+            if (i % RESTART_INTERVAL == 0) {
+                restartOffsets[i / RESTART_INTERVAL] = position;
+                previousId = 0;
+                previousMillis = 0;
+            }
+            position = writeVarint(buffer, position, ((row.id() - previousId) << TYPE_BITS) | row.type().ordinal());
+            position = writeVarint(buffer, position, zigzag(row.updateMillis() - previousMillis));
+            position = writeVarint(buffer, position, zigzag(row.userId()));
+            position = writeVarint(buffer, position, zigzag(row.amount()));
+            previousId = row.id();
+            previousMillis = row.updateMillis();
+        }
+
+        ByteBuffer data = ByteBuffer.allocateDirect(position);
+        data.put(Arrays.copyOf(buffer, position)).flip();
+        return new PointHistoryBlock(rows.get(0).id(), rows.get(rows.size() - 1).id(), rows.size(), data, restartOffsets);
+    }
+
+    /**
+     * afterId 이후의 내역을 최대 limit 개까지 복원해 sink 에 id 순서로 추가하고, 추가한 개수를 반환합니다.
+     */
+    int decodeAfter(long afterId, int limit, List<PointHistory> sink) {
+        if (lastId <= afterId || limit <= 0) {
+            return 0;
+        }
+        Decoder decoder = decoder();
+        int added = 0;
+        for (int i = (int) Math.max(0L, afterId + 1 - firstId); i < count && added < limit; i++) {
+            sink.add(decoder.rowAt(i));
+            added++;
+        }
+        return added;
+    }
+
+    /**
+     * 블록 안의 위치로 내역을 복원하는 decoder, 위치는 오름차순으로 요청해야 restart 사이를 다시 읽지 않습니다.
+     */
+    Decoder decoder() {
+        return new Decoder(data.duplicate(), restartOffsets);
+    }
+
+    long firstId() {
+        return firstId;
+    }
+
+    long lastId() {
+        return lastId;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int sizeInBytes() {
+        return data.capacity();
+    }
+
+    /**
+     * 데이터와 restart 위치, 객체 overhead 를 포함해 블록이 차지하는 크기 추정치
+     */
+    long retainedSizeInBytes() {
+        return sizeInBytes() + (long) restartOffsets.length * Integer.BYTES + OVERHEAD_BYTES;
+    }
+
+    static int writeVarint(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static long readVarint(ByteBuffer reader) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = reader.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static final class Decoder {
+        private final ByteBuffer reader;
+        private final int[] restartOffsets;
+        private int index;
+        private long id;
+        private long updateMillis;
+
+        private Decoder(ByteBuffer reader, int[] restartOffsets) {
+            this.reader = reader;
+            this.restartOffsets = restartOffsets;
+        }
+
+        /**
+         * 블록 안에서 rowIndex 번째 내역을 복원합니다.
+         * 다음 위치가 같은 restart 구간에 있으면 이어서 읽고, 아니면 해당 구간의 restart 로 이동합니다.
+         */
+        PointHistory rowAt(int rowIndex) {
+            int restart = rowIndex / RESTART_INTERVAL;
+            if (rowIndex < index || restart != index / RESTART_INTERVAL) {
+                reader.position(restartOffsets[restart]);
+                index = restart * RESTART_INTERVAL;
+            }
+            while (index < rowIndex) {
+                next();
+            }
+            return next();
+        }
+
+        private PointHistory next() {
+            if (index % RESTART_INTERVAL == 0) {
+                id = 0;
+                updateMillis = 0;
+            }
+            index++;
+            long idAndType = readVarint(reader);
+            id += idAndType >>> TYPE_BITS;
+            updateMillis += unzigzag(readVarint(reader));
+            long userId = unzigzag(readVarint(reader));
+            long amount = unzigzag(readVarint(reader));
+            return new PointHistory(id, userId, amount, TYPES[(int) (idAndType & TYPE_MASK)], updateMillis);
+        }
+    }
+}
@@ -1,25 +1,152 @@
 package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.config.PointCacheProperties;
+import io.hhplus.tdd.point.config.PointLockProperties;
 import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.type.TransactionType;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 @Repository
-@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.history", name = "storage", havingValue = "table", matchIfMissing = true)
 public class PointHistoryLocalRepository implements PointHistoryRepository {
+    /**
+     * 앞선 id 의 등록이 끝나지 않아 비어있는 자리를 기다리는 최대 시간
+     */
+    private static final long FEED_GAP_GRACE_MILLIS = 60_000L;
+
     private final PointHistoryTable pointHistoryTable;
+    /**
+     * PointHistoryTable 은 id 순서로 조회하는 API 를 제공하지 않으므로, 등록된 내역을 id 순서로 함께 보관합니다.
+     * 알려진 모든 consumer 가 지나간 내역(trimmedId 이하)은 정리합니다. (사용자별 조회는 테이블을 사용하므로 영향이 없습니다.)
+     */
+    private final ConcurrentSkipListMap<Long, PointHistory> feed = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> consumerPositions = new HashMap<>();
+    private volatile long trimmedId;
+    /**
+     * PointHistoryTable 은 사용자별 조회 시 전체 내역을 훑으므로, 한 번 조회한 사용자의 내역은 최대 maxIndexedUsers 명까지 사용자별로 함께 보관합니다.
+     * 다른 인스턴스가 등록한 내역은 알 수 없으므로, point.lock.provider 가 distributed 이면 보관하지 않습니다.
+     */
+    private final Map<Long, List<PointHistory>> userIndex = new ConcurrentHashMap<>();
+    private final int maxIndexedUsers;
+
+    @Autowired
+    public PointHistoryLocalRepository(PointHistoryTable pointHistoryTable, PointCacheProperties cacheProperties, PointLockProperties lockProperties) {
+        this(pointHistoryTable, cacheProperties.effectiveMaxUsers(lockProperties));
+    }
+
+    PointHistoryLocalRepository(PointHistoryTable pointHistoryTable, int maxIndexedUsers) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.maxIndexedUsers = maxIndexedUsers;
+    }
 
     @Override
     public PointHistory insert(long userId, long amount, TransactionType transactionType, long updateMillis) {
-        return pointHistoryTable.insert(userId, amount, transactionType, updateMillis);
+        PointHistory pointHistory = pointHistoryTable.insert(userId, amount, transactionType, updateMillis);
+        feed.put(pointHistory.id(), pointHistory);
+        userIndex.computeIfPresent(userId, (id, rows) -> {
+            // 테이블에서 내역을 읽어오는 사이에 등록된 내역은 이미 포함되어 있으므로 다시 추가하지 않습니다.
+            synchronized (rows) {
+                if (rows.isEmpty() || rows.get(rows.size() - 1).id() < pointHistory.id()) {
+                    rows.add(pointHistory);
+                }
+            }
+            return rows;
+        });
+        return pointHistory;
     }
 
     @Override
     public List<PointHistory> selectAllByUserId(long userId) {
-        return pointHistoryTable.selectAllByUserId(userId);
+        if (maxIndexedUsers == 0) {
+            return pointHistoryTable.selectAllByUserId(userId);
+        }
+        List<PointHistory> rows = userIndex.computeIfAbsent(userId, id -> new ArrayList<>(pointHistoryTable.selectAllByUserId(id)));
+        List<PointHistory> result;
+        synchronized (rows) {
+            result = List.copyOf(rows);
+        }
+        // 내보낸 사용자의 내역은 다음 조회 때 테이블에서 다시 읽으므로, 순서와 관계없이 내보냅니다.
+        Iterator<Long> iterator = userIndex.keySet().iterator();
+        while (userIndex.size() > maxIndexedUsers && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        return result;
+    }
+
+    @Override
+    public List<PointHistory> selectLatest(int limit) {
+        List<PointHistory> rows = new ArrayList<>(Math.min(limit, 1024));
+        for (PointHistory pointHistory : feed.descendingMap().values()) {
+            if (rows.size() >= limit) {
+                break;
+            }
+            rows.add(pointHistory);
+        }
+        Collections.reverse(rows);
+        return rows;
+    }
+
+    /**
+     * 내역을 보관 중인 사용자 수
+     */
+    int indexedUserCount() {
+        return userIndex.size();
+    }
+
+    /**
+     * 모든 consumer 의 위치 중 가장 앞선 위치 이하의 내역을 feed 에서 정리합니다.
+     */
+    @Override
+    public synchronized void acknowledge(String consumer, long id) {
+        consumerPositions.put(consumer, id);
+        long releasedId = Collections.min(consumerPositions.values());
+        if (releasedId > trimmedId) {
+            feed.headMap(releasedId, true).clear();
+            trimmedId = releasedId;
+        }
+    }
+
+    /**
+     * feed 에 보관 중인 내역 수
+     */
+    int feedSize() {
+        return feed.size();
+    }
+
+    /**
+     * id 이후의 내역을 id 순서로 최대 limit 개 조회합니다.
+     * 동시에 등록 중인 내역 때문에 id 가 비어있는 경우, 비어있는 자리 이후의 내역은 충분한 시간이 지난 뒤에 반환합니다.
+     * 정리된 내역(trimmedId 이하)은 비어있는 자리로 보지 않고 건너뜁니다.
+     */
+    @Override
+    public List<PointHistory> selectAllAfter(long id, int limit) {
+        List<PointHistory> rows = new ArrayList<>(Math.min(limit, 1024));
+        long expectedId = Math.max(id, trimmedId) + 1;
+        long graceMillis = System.currentTimeMillis() - FEED_GAP_GRACE_MILLIS;
+
+        for (PointHistory pointHistory : feed.tailMap(id, false).values()) {
+            if (rows.size() >= limit) {
+                break;
+            }
+            if (pointHistory.id() != expectedId && pointHistory.updateMillis() > graceMillis) {
+                break;
+            }
+            rows.add(pointHistory);
+            expectedId = pointHistory.id() + 1;
+        }
+        return rows;
     }
 }
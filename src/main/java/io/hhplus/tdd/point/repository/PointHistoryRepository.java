@@ -8,4 +8,18 @@ import java.util.List;
 public interface PointHistoryRepository {
     PointHistory insert(long userId, long amount, TransactionType transactionType, long updateMillis);
     List<PointHistory> selectAllByUserId(long userId);
+    List<PointHistory> selectAllAfter(long id, int limit);
+
+    /**
+     * 가장 최근에 등록된 내역을 최대 limit 개, id 순서로 조회합니다.
+     */
+    List<PointHistory> selectLatest(int limit);
+
+    /**
+     * consumer(정합성 검증, 내보내기 등)가 id 이하의 내역을 더 이상 id 순서로 읽지 않음을 알립니다.
+     * id 순서 조회를 위해 내역을 따로 보관하는 저장소는, 알려진 모든 consumer 가 지나간 내역을 정리할 수 있습니다.
+     * consumer 는 처음 읽기 전에 현재 위치(처음이면 0)를 먼저 알려야, 다른 consumer 의 위치만으로 내역이 정리되지 않습니다.
+     */
+    default void acknowledge(String consumer, long id) {
+    }
 }
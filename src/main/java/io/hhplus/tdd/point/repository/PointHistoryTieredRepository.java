@@ -0,0 +1,356 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.config.PointHistoryStorageProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 포인트 내역을 두 단계로 나누어 저장합니다. (point.history.storage=tiered)
+ * - 최근 내역(hotAge 이내)은 조회가 잦으므로 메모리에 그대로 유지합니다.
+ * - 그보다 오래된 내역은 사용자와 관계없이 id 순서대로 최대 blockSize 개씩 묶어 주기적으로 압축 블록으로 옮깁니다.
+ *   최근 내역이 maxHotRows 개를 넘으면 기간과 관계없이 오래된 내역부터 옮깁니다.
+ * - 사용자별로는 자신의 내역이 담긴 블록 번호와 블록 안의 위치를 varint 로 기록합니다.
+ *   사용자 내역 조회는 블록 전체를 복원하지 않고, 위치 색인으로 자신의 내역이 있는 restart 구간만 복원합니다.
+ * - 사용자마다 색인 객체와 map 항목이 하나씩 필요하므로, 내역이 적은 사용자가 많을수록 내역당 메모리 사용량이 늘어납니다.
+ *   (compactedRetainedSizeInBytes 로 객체 overhead 를 포함한 크기를 확인할 수 있습니다.)
+ * - 블록은 id 순서로 이어져 있으므로, id 이후의 내역 조회는 필요한 블록과 최근 내역만 읽습니다.
+ * PointHistoryTable 은 내역을 옮기거나 삭제하는 API 를 제공하지 않으므로, 이 저장소는 id 를 직접 발급하고 테이블을 사용하지 않습니다.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "point.history", name = "storage", havingValue = "tiered")
+public class PointHistoryTieredRepository implements PointHistoryRepository, SchedulingConfigurer {
+    /**
+     * 앞선 id 의 등록이 끝나지 않아 비어있는 자리를 기다리는 최대 시간
+     */
+    private static final long FEED_GAP_GRACE_MILLIS = 60_000L;
+
+    private final PointHistoryStorageProperties properties;
+    private final Clock clock;
+    private final Object idLock = new Object();
+    private long lastId;
+
+    /**
+     * 아직 압축하지 않은 내역 (id 순서)
+     */
+    private final ConcurrentSkipListMap<Long, PointHistory> hotRows = new ConcurrentSkipListMap<>();
+    /**
+     * ConcurrentSkipListMap.size() 는 전체를 순회하므로 개수를 따로 관리합니다.
+     */
+    private final AtomicInteger hotRowCount = new AtomicInteger();
+    private final Map<Long, UserHistory> histories = new ConcurrentHashMap<>();
+    /**
+     * 압축 블록 (id 순서), 블록 추가와 최근 내역 제거가 조회 도중에 끼어들지 않도록 함께 보호합니다.
+     */
+    private final List<PointHistoryBlock> blocks = new ArrayList<>();
+    private final ReadWriteLock tierLock = new ReentrantReadWriteLock();
+
+    @Autowired
+    public PointHistoryTieredRepository(PointHistoryStorageProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    PointHistoryTieredRepository(PointHistoryStorageProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::compact, properties.compactionInterval());
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType transactionType, long updateMillis) {
+        UserHistory history = histories.computeIfAbsent(userId, UserHistory::new);
+        PointHistory pointHistory;
+        // 사용자별 최근 내역이 id 순서를 유지하도록, id 발급과 사용자 내역 추가를 함께 수행합니다.
+        synchronized (history) {
+            synchronized (idLock) {
+                pointHistory = new PointHistory(++lastId, userId, amount, transactionType, updateMillis);
+            }
+            history.append(pointHistory);
+        }
+        hotRows.put(pointHistory.id(), pointHistory);
+        hotRowCount.incrementAndGet();
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistory history = histories.get(userId);
+        if (history == null) {
+            return List.of();
+        }
+        tierLock.readLock().lock();
+        try {
+            return history.selectAll(blocks);
+        } finally {
+            tierLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * id 이후의 내역을 id 순서로 최대 limit 개 조회합니다.
+     * 압축 블록은 id 가 이어져 있으므로 id 이후의 내역이 담긴 블록부터 필요한 만큼만 복원하고, 이어서 최근 내역을 읽습니다.
+     */
+    @Override
+    public List<PointHistory> selectAllAfter(long id, int limit) {
+        List<PointHistory> rows = new ArrayList<>(Math.min(limit, 1024));
+        tierLock.readLock().lock();
+        try {
+            for (int i = firstBlockAfter(id); i < blocks.size() && rows.size() < limit; i++) {
+                blocks.get(i).decodeAfter(id, limit - rows.size(), rows);
+            }
+
+            long afterId = rows.isEmpty() ? id : rows.get(rows.size() - 1).id();
+            long expectedId = afterId + 1;
+            long graceMillis = clock.millis() - FEED_GAP_GRACE_MILLIS;
+            for (PointHistory pointHistory : hotRows.tailMap(afterId, false).values()) {
+                if (rows.size() >= limit) {
+                    break;
+                }
+                if (pointHistory.id() != expectedId && pointHistory.updateMillis() > graceMillis) {
+                    break;
+                }
+                rows.add(pointHistory);
+                expectedId = pointHistory.id() + 1;
+            }
+            return rows;
+        } finally {
+            tierLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * id 는 이 저장소가 빈틈없이 발급하므로, 마지막으로 발급한 id 에서 limit 만큼 앞선 id 이후를 조회합니다.
+     */
+    @Override
+    public List<PointHistory> selectLatest(int limit) {
+        long latestId;
+        synchronized (idLock) {
+            latestId = lastId;
+        }
+        return selectAllAfter(Math.max(0L, latestId - limit), limit);
+    }
+
+    /**
+     * hotAge 보다 오래된 내역(또는 maxHotRows 를 넘는 내역)을 id 순서대로 압축 블록으로 옮깁니다.
+     * 등록 중인 내역 때문에 id 가 비어있으면, 비어있는 자리 이전까지만 옮깁니다.
+     */
+    public synchronized void compact() {
+        long agedMillis = clock.millis() - properties.hotAge().toMillis();
+        List<PointHistory> batch = new ArrayList<>(properties.blockSize());
+
+        while (true) {
+            batch.clear();
+            long expectedId = lastCompactedId() + 1;
+            int overflow = hotRowCount.get() - properties.maxHotRows();
+            for (PointHistory pointHistory : hotRows.values()) {
+                if (batch.size() >= properties.blockSize()
+                        || pointHistory.id() != expectedId
+                        || (pointHistory.updateMillis() > agedMillis && batch.size() >= overflow)) {
+                    break;
+                }
+                batch.add(pointHistory);
+                expectedId++;
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            publish(PointHistoryBlock.encode(batch), batch);
+        }
+    }
+
+    /**
+     * 압축 블록에 보관된 내역 수
+     */
+    public long compactedRowCount() {
+        tierLock.readLock().lock();
+        try {
+            return blocks.stream().mapToLong(PointHistoryBlock::count).sum();
+        } finally {
+            tierLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 압축된 내역이 차지하는 메모리 추정치
+     * - 블록: 힙 밖의 데이터, restart 위치, DirectByteBuffer 와 Cleaner 등 블록마다 생기는 객체
+     * - 사용자: map 항목과 key, UserHistory 객체, 블록 색인 배열 (최근 내역 목록은 압축되지 않은 내역이므로 제외)
+     * 객체 크기는 64비트 JVM(compressed oops) 기준의 추정치입니다.
+     */
+    public long compactedRetainedSizeInBytes() {
+        tierLock.readLock().lock();
+        try {
+            return blocks.stream().mapToLong(PointHistoryBlock::retainedSizeInBytes).sum()
+                    + histories.values().stream().mapToLong(UserHistory::retainedSizeInBytes).sum();
+        } finally {
+            tierLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 압축하지 않고 유지 중인 내역 수
+     */
+    public int hotRowCount() {
+        return hotRowCount.get();
+    }
+
+    private void publish(PointHistoryBlock block, List<PointHistory> rows) {
+        tierLock.writeLock().lock();
+        try {
+            int blockIndex = blocks.size();
+            blocks.add(block);
+            Map<Long, List<Integer>> rowIndexesByUser = new LinkedHashMap<>();
+            for (int i = 0; i < rows.size(); i++) {
+                PointHistory row = rows.get(i);
+                rowIndexesByUser.computeIfAbsent(row.userId(), key -> new ArrayList<>()).add(i);
+                hotRows.remove(row.id());
+            }
+            rowIndexesByUser.forEach((userId, rowIndexes) ->
+                    histories.get(userId).moveToBlock(blockIndex, block.lastId(), rowIndexes));
+            hotRowCount.addAndGet(-rows.size());
+        } finally {
+            tierLock.writeLock().unlock();
+        }
+    }
+
+    private long lastCompactedId() {
+        return blocks.isEmpty() ? 0L : blocks.get(blocks.size() - 1).lastId();
+    }
+
+    /**
+     * lastId 가 id 보다 큰 첫 번째 블록의 위치
+     */
+    private int firstBlockAfter(long id) {
+        int low = 0;
+        int high = blocks.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (blocks.get(mid).lastId() <= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static class UserHistory {
+        private static final byte[] NO_REFS = new byte[0];
+        /**
+         * 사용자 한 명이 색인 배열 외에 차지하는 힙 크기 추정치 (map 항목, Long key, table 항목, UserHistory, 배열 header)
+         */
+        private static final int OVERHEAD_BYTES = 32 + 16 + 8 + 40 + 16;
+
+        private final long userId;
+        /**
+         * 사용자의 내역이 담긴 블록마다 (직전 블록 번호와의 차이, 내역 수, 블록 안의 위치들)을 varint 로 기록합니다.
+         * 블록 안의 위치는 직전 위치와의 차이로 기록합니다.
+         */
+        private byte[] blockRefs = NO_REFS;
+        private int blockRefsLength;
+        private int lastBlockIndex = -1;
+        /**
+         * 아직 압축하지 않은 내역 (id 순서), 비어있으면 null
+         */
+        private List<PointHistory> recent;
+
+        UserHistory(long userId) {
+            this.userId = userId;
+        }
+
+        /**
+         * 호출자는 이 객체의 락을 잡은 상태여야 합니다.
+         */
+        void append(PointHistory pointHistory) {
+            if (recent == null) {
+                recent = new ArrayList<>(2);
+            }
+            recent.add(pointHistory);
+        }
+
+        synchronized List<PointHistory> selectAll(List<PointHistoryBlock> blocks) {
+            List<PointHistory> rows = new ArrayList<>();
+            int blockIndex = -1;
+            int[] position = {0};
+            while (position[0] < blockRefsLength) {
+                blockIndex += (int) readVarint(position);
+                int rowCount = (int) readVarint(position);
+                PointHistoryBlock.Decoder decoder = blocks.get(blockIndex).decoder();
+                int rowIndex = -1;
+                for (int i = 0; i < rowCount; i++) {
+                    rowIndex += (int) readVarint(position);
+                    rows.add(decoder.rowAt(rowIndex));
+                }
+            }
+            if (recent != null) {
+                rows.addAll(recent);
+            }
+            return rows;
+        }
+
+        /**
+         * blockIndex 블록으로 옮겨진 최근 내역(lastId 이하)을 제거하고, 블록 번호와 블록 안의 위치(오름차순)를 기록합니다.
+         * 같은 블록에 대해 여러 번 호출되면 처음 한 번만 반영합니다.
+         */
+        synchronized void moveToBlock(int blockIndex, long lastId, List<Integer> rowIndexes) {
+            if (blockIndex == lastBlockIndex) {
+                return;
+            }
+            // varint 는 int 값 하나에 최대 5바이트를 사용합니다.
+            int required = blockRefsLength + 5 * (2 + rowIndexes.size());
+            if (blockRefs.length < required) {
+                blockRefs = Arrays.copyOf(blockRefs, Math.max(required, blockRefs.length * 3 / 2));
+            }
+            blockRefsLength = PointHistoryBlock.writeVarint(blockRefs, blockRefsLength, blockIndex - lastBlockIndex);
+            blockRefsLength = PointHistoryBlock.writeVarint(blockRefs, blockRefsLength, rowIndexes.size());
+            int previousRowIndex = -1;
+            for (int rowIndex : rowIndexes) {
+                blockRefsLength = PointHistoryBlock.writeVarint(blockRefs, blockRefsLength, rowIndex - previousRowIndex);
+                previousRowIndex = rowIndex;
+            }
+            lastBlockIndex = blockIndex;
+
+            int moved = 0;
+            while (moved < recent.size() && recent.get(moved).id() <= lastId) {
+                moved++;
+            }
+            // 옮긴 내역이 차지하던 배열 공간도 반환되도록 새 리스트로 교체합니다.
+            recent = moved == recent.size() ? null : new ArrayList<>(recent.subList(moved, recent.size()));
+        }
+
+        synchronized long retainedSizeInBytes() {
+            return OVERHEAD_BYTES + blockRefs.length;
+        }
+
+        private long readVarint(int[] position) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = blockRefs[position[0]++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
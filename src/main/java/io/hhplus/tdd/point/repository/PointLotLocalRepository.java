@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.PointLot;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 포인트 묶음을 등록 순서(id)대로 보관합니다.
+ * 남은 포인트가 없는 묶음은 더 이상 보관하지 않습니다.
+ */
+@Repository
+public class PointLotLocalRepository implements PointLotRepository {
+    private final Map<Long, ConcurrentSkipListMap<Long, PointLot>> table = new ConcurrentHashMap<>();
+    private final AtomicLong cursor = new AtomicLong(1);
+
+    @Override
+    public PointLot insert(long userId, long amount, long expireMillis) {
+        PointLot pointLot = new PointLot(cursor.getAndIncrement(), userId, amount, amount, expireMillis);
+        table.computeIfAbsent(userId, k -> new ConcurrentSkipListMap<>()).put(pointLot.id(), pointLot);
+        return pointLot;
+    }
+
+    @Override
+    public Optional<PointLot> selectById(long userId, long id) {
+        Map<Long, PointLot> lots = table.get(userId);
+        return lots == null ? Optional.empty() : Optional.ofNullable(lots.get(id));
+    }
+
+    @Override
+    public List<PointLot> selectAllByUserId(long userId) {
+        Map<Long, PointLot> lots = table.get(userId);
+        return lots == null ? List.of() : List.copyOf(lots.values());
+    }
+
+    @Override
+    public void update(PointLot pointLot) {
+        Map<Long, PointLot> lots = table.get(pointLot.userId());
+        if (lots == null) {
+            return;
+        }
+        if (pointLot.remaining() <= 0) {
+            lots.remove(pointLot.id());
+        } else {
+            lots.put(pointLot.id(), pointLot);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.PointLot;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PointLotRepository {
+    PointLot insert(long userId, long amount, long expireMillis);
+    Optional<PointLot> selectById(long userId, long id);
+    List<PointLot> selectAllByUserId(long userId);
+    void update(PointLot pointLot);
+}
@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.config.PointLockProperties;
+import jakarta.annotation.PreDestroy;
+import org.redisson.Redisson;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 잠금 저장소 (point.lock.store=redis)
+ * - 잠금은 owner, token 을 가진 hash 로 저장하고 PEXPIRE 로 lease 를 관리합니다.
+ * - fencing token 은 만료되지 않는 별도의 key 를 INCR 해서 발급하므로, 잠금이 만료되거나 해제되어도 줄어들지 않습니다.
+ * - 확인과 변경이 나뉘지 않도록 모든 연산은 Lua 스크립트로 수행합니다.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "point.lock", name = "store", havingValue = "redis")
+public class RedisLockStore implements LockStore {
+    private static final String ACQUIRE_SCRIPT = """
+            local owner = redis.call('hget', KEYS[1], 'owner')
+            if owner and owner ~= ARGV[1] then
+                return -1
+            end
+            local token = redis.call('incr', KEYS[2])
+            redis.call('hset', KEYS[1], 'owner', ARGV[1], 'token', token)
+            redis.call('pexpire', KEYS[1], ARGV[2])
+            return token
+            """;
+    private static final String RELEASE_SCRIPT = """
+            if redis.call('hget', KEYS[1], 'owner') == ARGV[1] and redis.call('hget', KEYS[1], 'token') == ARGV[2] then
+                redis.call('del', KEYS[1])
+                return 1
+            end
+            return 0
+            """;
+    private static final String VALIDATE_SCRIPT = """
+            if redis.call('hget', KEYS[1], 'owner') == ARGV[1] and redis.call('hget', KEYS[1], 'token') == ARGV[2] then
+                redis.call('pexpire', KEYS[1], ARGV[3])
+                return 1
+            end
+            return 0
+            """;
+
+    private final RedissonClient redissonClient;
+    private final RScript script;
+
+    public RedisLockStore(PointLockProperties properties) {
+        Config config = new Config();
+        config.useSingleServer().setAddress(properties.redisAddress());
+        this.redissonClient = Redisson.create(config);
+        this.script = redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    @Override
+    public long tryAcquire(String key, String owner, Duration leaseTime) {
+        Long token = script.eval(RScript.Mode.READ_WRITE, ACQUIRE_SCRIPT, RScript.ReturnType.INTEGER,
+                keys(key, key + ":fence"), owner, String.valueOf(leaseTime.toMillis()));
+        return token;
+    }
+
+    @Override
+    public boolean release(String key, String owner, long fencingToken) {
+        Long released = script.eval(RScript.Mode.READ_WRITE, RELEASE_SCRIPT, RScript.ReturnType.INTEGER,
+                keys(key), owner, String.valueOf(fencingToken));
+        return released == 1L;
+    }
+
+    @Override
+    public boolean validate(String key, String owner, long fencingToken, Duration leaseTime) {
+        Long valid = script.eval(RScript.Mode.READ_WRITE, VALIDATE_SCRIPT, RScript.ReturnType.INTEGER,
+                keys(key), owner, String.valueOf(fencingToken), String.valueOf(leaseTime.toMillis()));
+        return valid == 1L;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        redissonClient.shutdown();
+    }
+
+    private static List<Object> keys(String... keys) {
+        return List.of((Object[]) keys);
+    }
+}
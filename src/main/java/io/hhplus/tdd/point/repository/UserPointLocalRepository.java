@@ -1,23 +1,93 @@
 package io.hhplus.tdd.point.repository;
 
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointCacheProperties;
+import io.hhplus.tdd.point.config.PointLockProperties;
 import io.hhplus.tdd.point.entity.UserPoint;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * UserPointTable 의 조회는 느리므로, 조회하거나 변경한 잔액을 최대 maxUsers 명까지 함께 보관합니다.
+ * - 이 인스턴스의 변경은 모두 이 저장소를 거치므로, 보관한 값은 테이블과 일치합니다.
+ * - 다른 인스턴스의 변경은 알 수 없으므로, 여러 인스턴스가 함께 변경하는 배포(point.lock.provider=distributed)에서는 보관하지 않습니다.
+ */
 @Repository
-@RequiredArgsConstructor
 public class UserPointLocalRepository implements UserPointRepository {
     private final UserPointTable userPointTable;
+    private final int maxUsers;
+    private final Map<Long, UserPoint> cache = new ConcurrentHashMap<>();
+    /**
+     * 보관 중인 잔액을 내보낼 때마다 증가합니다.
+     * 테이블을 읽는 동안 내보낸 잔액이 있다면, 그 사이 변경된 잔액을 이전 값으로 덮어쓸 수 있으므로 읽은 값을 보관하지 않습니다.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public UserPointLocalRepository(UserPointTable userPointTable, PointCacheProperties cacheProperties, PointLockProperties lockProperties) {
+        this(userPointTable, cacheProperties.effectiveMaxUsers(lockProperties));
+    }
+
+    UserPointLocalRepository(UserPointTable userPointTable, int maxUsers) {
+        this.userPointTable = userPointTable;
+        this.maxUsers = maxUsers;
+    }
 
     @Override
     public UserPoint selectById(Long id) {
-        return userPointTable.selectById(id);
+        if (maxUsers == 0) {
+            return userPointTable.selectById(id);
+        }
+        UserPoint cached = cache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = evictions.get();
+        UserPoint userPoint = userPointTable.selectById(id);
+        // 조회하는 동안 변경된 잔액이 있다면 덮어쓰지 않습니다.
+        UserPoint existing = cache.putIfAbsent(id, userPoint);
+        if (existing != null) {
+            return existing;
+        }
+        if (evictions.get() != generation) {
+            cache.remove(id, userPoint);
+        } else {
+            evictIfFull();
+        }
+        return userPoint;
     }
 
     @Override
     public UserPoint insertOrUpdate(long id, long amount) {
-        return userPointTable.insertOrUpdate(id, amount);
+        UserPoint userPoint = userPointTable.insertOrUpdate(id, amount);
+        if (maxUsers > 0) {
+            cache.put(id, userPoint);
+            evictIfFull();
+        }
+        return userPoint;
+    }
+
+    /**
+     * 보관 중인 사용자 수
+     */
+    int cachedUserCount() {
+        return cache.size();
+    }
+
+    /**
+     * 요청 경로에 순서 관리 비용을 더하지 않도록, 내보낼 사용자는 순서와 관계없이 고릅니다.
+     */
+    private void evictIfFull() {
+        Iterator<Long> iterator = cache.keySet().iterator();
+        while (cache.size() > maxUsers && iterator.hasNext()) {
+            iterator.next();
+            evictions.incrementAndGet();
+            iterator.remove();
+        }
     }
 }
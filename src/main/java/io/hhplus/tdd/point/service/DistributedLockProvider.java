@@ -0,0 +1,190 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointLockProperties;
+import io.hhplus.tdd.point.repository.LockStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여러 인스턴스가 공유하는 잠금 (point.lock.provider=distributed)
+ * - 인스턴스 안에서는 사용자별 ReentrantLock 으로 먼저 직렬화하므로, 저장소에는 인스턴스마다 한 번에 한 요청만 잠금을 요청합니다.
+ * - 저장소의 잠금은 인스턴스 id 를 소유자로 기록하고, leaseTime 이 지나면 만료됩니다.
+ * - 다른 인스턴스가 보유한 잠금은 retryInterval 마다 다시 시도하고, waitTimeout 이 지나면 PointLockTimeoutException 으로 실패합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.lock", name = "provider", havingValue = "distributed")
+public class DistributedLockProvider implements LockProvider {
+    private static final Logger log = LoggerFactory.getLogger(DistributedLockProvider.class);
+
+    private final LockStore lockStore;
+    private final PointLockProperties properties;
+    private final String owner = UUID.randomUUID().toString();
+    private final ConcurrentHashMap<Long, DistributedLock> lockMap = new ConcurrentHashMap<>();
+
+    public DistributedLockProvider(LockStore lockStore, PointLockProperties properties) {
+        this.lockStore = lockStore;
+        this.properties = properties;
+    }
+
+    @Override
+    public Lock getLock(long id) {
+        return lockMap.computeIfAbsent(id, k -> new DistributedLock(k, properties.keyPrefix() + "{" + k + "}"));
+    }
+
+    private class DistributedLock implements FencedLock {
+        private final long id;
+        private final String key;
+        private final ReentrantLock localLock = new ReentrantLock(true);
+        /**
+         * localLock 을 보유한 스레드만 읽고 씁니다.
+         */
+        private long fencingToken;
+
+        DistributedLock(long id, String key) {
+            this.id = id;
+            this.key = key;
+        }
+
+        @Override
+        public void lock() {
+            localLock.lock();
+            try {
+                if (!acquire(System.nanoTime() + properties.waitTimeout().toNanos())) {
+                    throw new PointLockTimeoutException(id);
+                }
+            } catch (InterruptedException e) {
+                localLock.unlock();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("잠금을 기다리는 중 중단되었습니다. key=" + key, e);
+            } catch (RuntimeException e) {
+                localLock.unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            localLock.lockInterruptibly();
+            boolean acquired = false;
+            try {
+                acquired = acquire(System.nanoTime() + properties.waitTimeout().toNanos());
+            } finally {
+                if (!acquired) {
+                    localLock.unlock();
+                }
+            }
+            if (!acquired) {
+                throw new PointLockTimeoutException(id);
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (!localLock.tryLock()) {
+                return false;
+            }
+            return tryAcquireOnce();
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            long deadlineNanos = System.nanoTime() + unit.toNanos(time);
+            if (!localLock.tryLock(time, unit)) {
+                return false;
+            }
+            boolean acquired = false;
+            try {
+                acquired = acquire(deadlineNanos);
+            } finally {
+                if (!acquired) {
+                    localLock.unlock();
+                }
+            }
+            return acquired;
+        }
+
+        @Override
+        public void unlock() {
+            try {
+                if (localLock.isHeldByCurrentThread() && localLock.getHoldCount() == 1
+                        && !lockStore.release(key, owner, fencingToken)) {
+                    log.warn("이미 만료된 잠금입니다. key={}, fencingToken={}", key, fencingToken);
+                }
+            } catch (RuntimeException e) {
+                // 해제하지 못한 잠금은 lease 가 지나면 만료됩니다.
+                log.error("잠금을 해제하지 못했습니다. key={}, fencingToken={}", key, fencingToken, e);
+            } finally {
+                localLock.unlock();
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("분산 잠금은 Condition 을 지원하지 않습니다.");
+        }
+
+        @Override
+        public long fencingToken() {
+            return fencingToken;
+        }
+
+        @Override
+        public void checkFencingToken() {
+            if (!lockStore.validate(key, owner, fencingToken, properties.leaseTime())) {
+                throw new IllegalStateException("잠금이 만료되어 반영할 수 없습니다. key=" + key + ", fencingToken=" + fencingToken);
+            }
+        }
+
+        /**
+         * 재진입한 경우에는 이미 보유한 저장소 잠금을 그대로 사용합니다.
+         */
+        private boolean tryAcquireOnce() {
+            if (localLock.getHoldCount() > 1) {
+                return true;
+            }
+            try {
+                long token = lockStore.tryAcquire(key, owner, properties.leaseTime());
+                if (token > 0) {
+                    fencingToken = token;
+                    return true;
+                }
+            } catch (RuntimeException e) {
+                localLock.unlock();
+                throw e;
+            }
+            localLock.unlock();
+            return false;
+        }
+
+        private boolean acquire(long deadlineNanos) throws InterruptedException {
+            if (localLock.getHoldCount() > 1) {
+                return true;
+            }
+            long retryMillis = properties.retryInterval().toMillis();
+            while (true) {
+                long token = lockStore.tryAcquire(key, owner, properties.leaseTime());
+                if (token > 0) {
+                    fencingToken = token;
+                    return true;
+                }
+                long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                // 여러 인스턴스가 같은 간격으로 재시도하지 않도록 간격을 흩뜨립니다.
+                long sleepMillis = retryMillis / 2 + ThreadLocalRandom.current().nextLong(retryMillis + 1);
+                TimeUnit.MILLISECONDS.sleep(Math.max(1L, Math.min(sleepMillis, TimeUnit.NANOSECONDS.toMillis(remainingNanos))));
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.service;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 획득할 때마다 fencing token 을 발급받는 잠금
+ * lease 가 만료되어 다른 인스턴스가 잠금을 가져간 뒤에는, 이전 보유자의 token 으로는 checkFencingToken 을 통과할 수 없습니다.
+ * PointUnitOfWork 는 쓰기마다 직전에 token 을 확인하면서 lease 를 연장하므로, 긴 commit 도중에 lease 가 만료되지 않습니다.
+ * <p>
+ * 한계: 잔액/내역 저장소가 token 을 직접 검사하지는 않으므로, 확인 직후의 쓰기 하나가 GC 멈춤 등으로 lease 보다 오래 지연되면
+ * 그 사이 잠금을 획득한 다른 인스턴스의 쓰기와 겹칠 수 있습니다.
+ */
+public interface FencedLock extends Lock {
+    /**
+     * 현재 보유한 잠금의 fencing token
+     */
+    long fencingToken();
+
+    /**
+     * 보유한 token 이 여전히 유효한지 확인하고 lease 를 연장합니다.
+     * 유효하지 않다면 IllegalStateException 을 던집니다.
+     */
+    void checkFencingToken();
+}
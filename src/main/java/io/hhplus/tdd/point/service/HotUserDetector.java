@@ -0,0 +1,161 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointHotUserProperties;
+import io.hhplus.tdd.point.dto.PointHotUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 쓰기 요청이 몰리는 사용자(hot user)를 space-saving 알고리즘으로 감지합니다.
+ * - 최대 capacity 명의 요청 수만 추적하며, 추적하지 않던 사용자가 들어오면 요청 수가 가장 적은 사용자를 대체합니다.
+ *   이때 대체된 사용자의 요청 수를 물려받으므로, 요청 수는 실제보다 최대 error 만큼 많을 수 있습니다.
+ * - 요청의 일부(sampleRate)만 집계하고, window 마다 집계 값을 절반으로 줄여 최근 요청을 기준으로 판단합니다.
+ * - 요청 경로에서는 표본을 사용자별 LongAdder 에 더하기만 하고, refreshInterval 마다 모아 둔 표본을 집계에 반영해 hot user 목록을 다시 계산합니다.
+ *   따라서 요청마다 수행되는 표본 기록과 판단은 공유 락 없이 이루어지며, 새 hot user 는 최대 refreshInterval 뒤에 감지됩니다.
+ */
+@Component
+public class HotUserDetector implements SchedulingConfigurer {
+    private final PointHotUserProperties properties;
+    private final Clock clock;
+
+    /**
+     * 다음 집계 때 반영할 표본 수, 집계할 때 꺼낸 뒤 제거하므로 refreshInterval 동안 표본이 기록된 사용자 수만큼만 커집니다.
+     */
+    private final Map<Long, LongAdder> pendingSamples = new ConcurrentHashMap<>();
+    private final Map<Long, Counter> counters = new HashMap<>();
+    private long total;
+    private long windowEndMillis;
+    private volatile Set<Long> hotUserIds = Set.of();
+
+    @Autowired
+    public HotUserDetector(PointHotUserProperties properties) {
+        this(properties, Clock.systemDefaultZone());
+    }
+
+    HotUserDetector(PointHotUserProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.windowEndMillis = clock.millis() + properties.window().toMillis();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::refresh, properties.refreshInterval());
+    }
+
+    /**
+     * 쓰기 요청을 표본으로 기록하고, 요청한 사용자가 hot user 인지 반환합니다.
+     */
+    public boolean record(long userId) {
+        if (ThreadLocalRandom.current().nextDouble() < properties.sampleRate()) {
+            pendingSamples.computeIfAbsent(userId, key -> new LongAdder()).increment();
+        }
+        return hotUserIds.contains(userId);
+    }
+
+    /**
+     * 현재 hot user 로 판단된 사용자를 요청 수가 많은 순서로 반환합니다.
+     */
+    public synchronized List<PointHotUser> getHotUsers() {
+        refresh();
+        return counters.entrySet().stream()
+                .filter(entry -> hotUserIds.contains(entry.getKey()))
+                .map(entry -> new PointHotUser(
+                        entry.getKey(),
+                        entry.getValue().count,
+                        entry.getValue().error,
+                        (double) entry.getValue().count / total
+                ))
+                .sorted(Comparator.comparingLong(PointHotUser::count).reversed())
+                .toList();
+    }
+
+    /**
+     * 모아 둔 표본을 집계에 반영하고 hot user 목록을 다시 계산합니다.
+     */
+    public synchronized void refresh() {
+        decayIfWindowPassed();
+
+        // 꺼낸 뒤 제거하는 사이에 더해진 표본은 반영되지 않을 수 있지만, 표본 집계이므로 허용합니다.
+        for (Long userId : pendingSamples.keySet()) {
+            LongAdder samples = pendingSamples.remove(userId);
+            if (samples != null) {
+                add(userId, samples.sum());
+            }
+        }
+
+        refreshHotUsers();
+    }
+
+    private void add(long userId, long samples) {
+        Counter counter = counters.get(userId);
+        if (counter == null) {
+            counter = counters.size() < properties.capacity() ? new Counter() : evictMinimum();
+            counters.put(userId, counter);
+        }
+        counter.count += samples;
+        total += samples;
+    }
+
+    private Counter evictMinimum() {
+        Map.Entry<Long, Counter> minimum = null;
+        for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+            if (minimum == null || entry.getValue().count < minimum.getValue().count) {
+                minimum = entry;
+            }
+        }
+        counters.remove(minimum.getKey());
+
+        // 대체된 사용자의 요청 수를 물려받고, 물려받은 만큼을 오차로 기록
+        Counter counter = new Counter();
+        counter.count = minimum.getValue().count;
+        counter.error = minimum.getValue().count;
+        return counter;
+    }
+
+    private void decayIfWindowPassed() {
+        long nowMillis = clock.millis();
+        if (nowMillis < windowEndMillis) {
+            return;
+        }
+        counters.values().removeIf(counter -> {
+            counter.count >>= 1;
+            counter.error >>= 1;
+            return counter.count == 0;
+        });
+        total >>= 1;
+        windowEndMillis = nowMillis + properties.window().toMillis();
+    }
+
+    private void refreshHotUsers() {
+        long threshold = Math.max(properties.minSamples(), (long) Math.ceil(total * properties.hotShare()));
+        Set<Long> hot = new HashSet<>();
+        counters.forEach((userId, counter) -> {
+            // 오차를 제외한 최소 요청 수로 판단해, 대체로 물려받은 요청 수 때문에 hot user 로 판단하지 않도록 합니다.
+            if (counter.count - counter.error >= threshold) {
+                hot.add(userId);
+            }
+        });
+        if (!hot.equals(hotUserIds)) {
+            hotUserIds = Set.copyOf(hot);
+        }
+    }
+
+    private static class Counter {
+        private long count;
+        private long error;
+    }
+}
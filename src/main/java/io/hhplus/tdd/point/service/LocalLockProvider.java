@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 프로세스 내부 잠금 (point.lock.provider=local)
+ * 하나의 인스턴스 안에서만 요청을 직렬화합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.lock", name = "provider", havingValue = "local", matchIfMissing = true)
+public class LocalLockProvider implements LockProvider {
+    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+
+    @Override
+    public Lock getLock(long id) {
+        return lockMap.computeIfAbsent(id, k -> new ReentrantLock(true));
+    }
+}
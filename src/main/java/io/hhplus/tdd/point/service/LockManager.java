@@ -1,15 +1,66 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.point.config.PointLockProperties;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
+/**
+ * 사용자별 잠금을 LockProvider 에서 가져옵니다. (point.lock.provider)
+ * 잠금이 FencedLock 이라면 PointUnitOfWork 가 쓰기 전에 fencing token 을 확인합니다.
+ */
 @Component
 public class LockManager {
-    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+    private final LockProvider lockProvider;
+    /**
+     * 잠금을 기다리는 최대 시간, null 이면 획득할 때까지 기다립니다.
+     */
+    private final Duration waitTimeout;
 
-    public ReentrantLock getLock(Long id) {
-        return lockMap.computeIfAbsent(id, k -> new ReentrantLock(true));
+    /**
+     * 프로세스 내부 잠금을 획득할 때까지 기다립니다.
+     */
+    public LockManager() {
+        this(new LocalLockProvider(), (Duration) null);
+    }
+
+    /**
+     * 프로세스 내부 잠금은 요청이 몰려도 순서대로 처리되도록 획득할 때까지 기다리고,
+     * 분산 잠금만 다른 인스턴스를 무한히 기다리지 않도록 waitTimeout 으로 제한합니다.
+     */
+    @Autowired
+    public LockManager(LockProvider lockProvider, PointLockProperties properties) {
+        this(lockProvider, "distributed".equals(properties.provider()) ? properties.waitTimeout() : null);
+    }
+
+    public LockManager(LockProvider lockProvider, Duration waitTimeout) {
+        this.lockProvider = lockProvider;
+        this.waitTimeout = waitTimeout;
+    }
+
+    public Lock getLock(Long id) {
+        return lockProvider.getLock(id);
+    }
+
+    /**
+     * 잠금을 획득합니다. waitTimeout 이 있다면 그 시간 동안만 기다립니다.
+     * 획득하지 못하면 PointLockTimeoutException 을 던지므로, 호출자는 획득한 경우에만 unlock 합니다.
+     */
+    public void acquire(long id, Lock lock) {
+        if (waitTimeout == null) {
+            lock.lock();
+            return;
+        }
+        try {
+            if (!lock.tryLock(waitTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new PointLockTimeoutException(id);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("잠금을 기다리는 중 중단되었습니다. id=" + id, e);
+        }
     }
 }
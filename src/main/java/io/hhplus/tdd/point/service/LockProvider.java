@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.service;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 사용자별 잠금을 제공합니다.
+ * 같은 사용자에 대해서는 항상 같은 잠금을 반환해야 합니다.
+ * 반환한 잠금은 lock, tryLock, unlock 만 지원하면 됩니다.
+ * 여러 인스턴스에 걸친 대기/신호는 제공할 수 없으므로, newCondition 은 UnsupportedOperationException 을 던질 수 있습니다.
+ */
+public interface LockProvider {
+    Lock getLock(long id);
+}
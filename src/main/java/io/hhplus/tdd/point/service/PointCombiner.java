@@ -0,0 +1,213 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointHotUserProperties;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * hot user 의 충전/사용 요청을 모아서 처리합니다. (flat combining)
+ * - 요청은 사용자별 대기열에 넣은 뒤 사용자 락을 기다립니다.
+ * - 락을 얻었을 때 자신의 요청이 아직 처리되지 않았다면, 대기열에 쌓인 요청을 한 묶음 처리하고 락을 반환합니다.
+ *   이미 다른 스레드가 처리했다면 결과만 받아 바로 락을 반환하고, 자신의 요청이 남아 있다면 다시 락을 기다립니다.
+ * - 요청마다 정책을 순서대로 검증하고, 통과한 요청은 하나의 작업 단위로 묶어 잔액은 한 번만 반영하고 내역은 요청마다 등록합니다.
+ * - 묶음 크기는 개수(combiningBatchSize)와 예상 반영 시간(combiningTimeBudget)으로 함께 제한합니다.
+ *   요청 하나를 반영하는 데 걸린 시간을 측정해, 예상 시간이 combiningTimeBudget 을 넘지 않을 만큼만 꺼냅니다.
+ * 잔액 쓰기는 묶음마다 한 번으로 줄어들지만 내역은 요청마다 등록되므로, 묶음이 클수록 락을 잡고 있는 시간도 늘어납니다.
+ * 시간으로 묶음을 제한하고 묶음마다 락을 반환해, 같은 사용자의 조회나 다른 요청이 한 번에 기다리는 시간을 combiningTimeBudget 근처로 유지합니다.
+ * (첫 묶음은 측정 값이 없어 combiningBatchSize 로만 제한합니다.)
+ */
+@Component
+public class PointCombiner {
+    private static final Logger log = LoggerFactory.getLogger(PointCombiner.class);
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointValidator pointValidator;
+    private final LockManager lockManager;
+    private final PointExpirationManager pointExpirationManager;
+    private final PointHotUserProperties properties;
+
+    private final Map<Long, Queue<PendingUpdate>> pendingUpdates = new ConcurrentHashMap<>();
+    /**
+     * 요청 하나를 반영하는 데 걸린 시간의 이동 평균 (0 이면 아직 측정하지 않음)
+     */
+    private final AtomicLong nanosPerUpdate = new AtomicLong();
+
+    public PointCombiner(
+            UserPointRepository userPointRepository,
+            PointHistoryRepository pointHistoryRepository,
+            PointValidator pointValidator,
+            LockManager lockManager,
+            PointExpirationManager pointExpirationManager,
+            PointHotUserProperties properties
+    ) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointValidator = pointValidator;
+        this.lockManager = lockManager;
+        this.pointExpirationManager = pointExpirationManager;
+        this.properties = properties;
+    }
+
+    public UserPoint charge(long id, long pointToCharge) {
+        return submit(id, new PendingUpdate(TransactionType.CHARGE, pointToCharge));
+    }
+
+    public UserPoint use(long id, long pointToUse) {
+        return submit(id, new PendingUpdate(TransactionType.USE, pointToUse));
+    }
+
+    private UserPoint submit(long id, PendingUpdate update) {
+        Queue<PendingUpdate> queue = pendingUpdates.computeIfAbsent(id, key -> new ConcurrentLinkedQueue<>());
+        queue.add(update);
+
+        Lock lock = lockManager.getLock(id);
+        // 대기열은 순서대로 처리되므로, 자신의 요청이 처리될 때까지 반복합니다.
+        // 묶음마다 락을 반환해, 기다리는 조회 요청이 여러 묶음이 끝날 때까지 막히지 않도록 합니다.
+        while (!update.result().isDone()) {
+            try {
+                lockManager.acquire(id, lock);
+            } catch (RuntimeException e) {
+                // 잠금을 기다리다 실패했더라도, 대기열에서 꺼내지 못했다면 이미 다른 요청이 함께 처리 중이므로 그 결과를 기다립니다.
+                if (queue.remove(update)) {
+                    throw e;
+                }
+                return await(update);
+            }
+            try {
+                if (!update.result().isDone()) {
+                    combine(id, lock, queue);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return await(update);
+    }
+
+    private UserPoint await(PendingUpdate update) {
+        try {
+            return update.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void combine(long id, Lock lock, Queue<PendingUpdate> queue) {
+        int batchLimit = batchLimit();
+        List<PendingUpdate> batch = new ArrayList<>();
+        PendingUpdate polled;
+        while (batch.size() < batchLimit && (polled = queue.poll()) != null) {
+            batch.add(polled);
+        }
+
+        try {
+            apply(id, lock, batch);
+        } catch (RuntimeException e) {
+            // 이미 완료된 요청(정책 위반으로 실패한 요청)은 그대로 두고, 반영되지 않은 요청만 실패 처리
+            batch.forEach(update -> update.result().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 측정한 요청당 반영 시간으로 combiningTimeBudget 안에 반영할 수 있는 요청 수를 계산합니다.
+     */
+    int batchLimit() {
+        long perUpdate = nanosPerUpdate.get();
+        if (perUpdate == 0) {
+            return properties.combiningBatchSize();
+        }
+        long limit = properties.combiningTimeBudget().toNanos() / perUpdate;
+        return (int) Math.max(1L, Math.min(limit, properties.combiningBatchSize()));
+    }
+
+    private void recordApplyTime(long elapsedNanos, int updateCount) {
+        long sample = Math.max(1L, elapsedNanos / updateCount);
+        nanosPerUpdate.accumulateAndGet(sample, (average, next) -> average == 0 ? next : average - average / 4 + next / 4);
+    }
+
+    private void apply(long id, Lock lock, List<PendingUpdate> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long startedNanos = System.nanoTime();
+        UserPoint existingUserPoint = userPointRepository.selectById(id);
+        long point = existingUserPoint.point();
+        long chargedInBatch = 0;
+
+        // 정책 검증: 앞선 요청이 반영된 잔액을 기준으로 요청마다 검증하고, 위반한 요청만 실패 처리
+        PointUnitOfWork unitOfWork = new PointUnitOfWork(userPointRepository, pointHistoryRepository).fencedBy(lock);
+        List<AppliedUpdate> applied = new ArrayList<>();
+        for (PendingUpdate update : batch) {
+            try {
+                if (update.type() == TransactionType.CHARGE) {
+                    pointValidator.validateForCharge(id, point, update.amount(), chargedInBatch);
+                    point += update.amount();
+                    chargedInBatch += update.amount();
+                } else {
+                    pointValidator.validateForUse(id, point, update.amount());
+                    point -= update.amount();
+                }
+            } catch (IllegalArgumentException e) {
+                update.result().completeExceptionally(e);
+                continue;
+            }
+            unitOfWork.stageBalance(existingUserPoint, point)
+                    .stageHistory(id, update.amount(), update.type());
+            applied.add(new AppliedUpdate(update, point));
+        }
+        if (applied.isEmpty()) {
+            return;
+        }
+
+        // 잔액은 한 번만 반영하고, 내역은 요청마다 등록
+        UserPoint result = unitOfWork.commit().get(id);
+        recordApplyTime(System.nanoTime() - startedNanos, applied.size());
+
+        // 만료 대상 등록/차감 및 하루 충전 금액 누적은 요청 순서대로 수행
+        // 잔액과 내역은 이미 반영되었으므로, 후속 처리에 실패하더라도 요청은 성공으로 완료
+        for (AppliedUpdate appliedUpdate : applied) {
+            PendingUpdate update = appliedUpdate.update();
+            try {
+                if (update.type() == TransactionType.CHARGE) {
+                    pointExpirationManager.register(id, update.amount(), result.updateMillis());
+                    pointValidator.recordCharge(id, update.amount());
+                } else {
+                    pointExpirationManager.consume(id, update.amount());
+                }
+            } catch (RuntimeException e) {
+                log.error("반영된 요청의 후속 처리에 실패했습니다. userId={}, type={}, amount={}", id, update.type(), update.amount(), e);
+            }
+            update.result().complete(new UserPoint(id, appliedUpdate.point(), result.updateMillis()));
+        }
+    }
+
+    private record PendingUpdate(TransactionType type, long amount, CompletableFuture<UserPoint> result) {
+        PendingUpdate(TransactionType type, long amount) {
+            this(type, amount, new CompletableFuture<>());
+        }
+    }
+
+    private record AppliedUpdate(PendingUpdate update, long point) {
+    }
+}
@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointExpirationProperties;
+import io.hhplus.tdd.point.entity.PointLot;
+import io.hhplus.tdd.point.repository.PointLotRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 충전된 포인트를 만료 시점을 가지는 묶음(PointLot)으로 관리합니다.
+ * - 충전 시 묶음을 등록하고, 타이머 휠에 만료 시점을 예약합니다.
+ * - 사용 시 먼저 충전된 묶음부터 차감합니다. (FIFO)
+ * 묶음의 변경은 해당 사용자의 락을 잡은 상태에서만 이루어져야 합니다.
+ */
+@Component
+public class PointExpirationManager {
+    private final PointLotRepository pointLotRepository;
+    private final PointExpirationProperties properties;
+    private final TimerWheel<PointLot> timerWheel;
+
+    public PointExpirationManager(PointLotRepository pointLotRepository, PointExpirationProperties properties) {
+        this.pointLotRepository = pointLotRepository;
+        this.properties = properties;
+        this.timerWheel = new TimerWheel<>(properties.tick().toMillis(), System.currentTimeMillis());
+    }
+
+    public void register(long userId, long amount, long chargedMillis) {
+        PointLot pointLot = pointLotRepository.insert(userId, amount, chargedMillis + properties.period().toMillis());
+        timerWheel.schedule(pointLot, pointLot.expireMillis());
+    }
+
+    /**
+     * 먼저 충전된 묶음부터 amount 만큼 차감합니다.
+     * 묶음으로 관리되지 않는 잔액(만료 기능 도입 이전 충전분)은 묶음을 모두 소진한 뒤 차감된 것으로 봅니다.
+     */
+    public void consume(long userId, long amount) {
+        long remaining = amount;
+        for (PointLot pointLot : pointLotRepository.selectAllByUserId(userId)) {
+            if (remaining <= 0) {
+                break;
+            }
+            long used = Math.min(pointLot.remaining(), remaining);
+            pointLotRepository.update(pointLot.withRemaining(pointLot.remaining() - used));
+            remaining -= used;
+        }
+    }
+
+    /**
+     * 만료 시점이 지난 묶음을 최대 maxItems 개 꺼냅니다.
+     * 꺼낸 묶음은 이미 사용되었을 수 있으므로, 처리 전 findExpired 로 현재 상태를 확인해야 합니다.
+     */
+    public List<PointLot> pollExpired(long nowMillis, int maxItems) {
+        return timerWheel.poll(nowMillis, maxItems);
+    }
+
+    public List<PointLot> findExpired(long userId, Collection<PointLot> candidates, long nowMillis) {
+        List<PointLot> expired = new ArrayList<>(candidates.size());
+        for (PointLot candidate : candidates) {
+            pointLotRepository.selectById(userId, candidate.id())
+                    .filter(pointLot -> pointLot.remaining() > 0 && pointLot.expireMillis() <= nowMillis)
+                    .ifPresent(expired::add);
+        }
+        return expired;
+    }
+
+    public void expire(Collection<PointLot> pointLots) {
+        for (PointLot pointLot : pointLots) {
+            pointLotRepository.update(pointLot.withRemaining(0));
+        }
+    }
+
+    /**
+     * 처리하지 못한 묶음을 다음 tick 에 다시 처리하도록 예약합니다.
+     */
+    public void retry(Collection<PointLot> pointLots, long nowMillis) {
+        long retryMillis = nowMillis + properties.tick().toMillis();
+        for (PointLot pointLot : pointLots) {
+            timerWheel.schedule(pointLot, retryMillis);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointExpirationProperties;
+import io.hhplus.tdd.point.entity.PointLot;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * tick 주기마다 만료된 포인트 묶음을 배치 단위로 소멸시킵니다.
+ * 사용자별로 락을 잡고 해당 사용자의 묶음만 처리한 뒤 바로 락을 놓으며,
+ * 락을 바로 획득할 수 없는 사용자는 다음 tick 에 다시 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointExpirationScheduler implements SchedulingConfigurer {
+    private static final Logger log = LoggerFactory.getLogger(PointExpirationScheduler.class);
+
+    private final PointExpirationManager pointExpirationManager;
+    private final PointService pointService;
+    private final PointExpirationProperties properties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::expire, properties.tick());
+    }
+
+    public void expire() {
+        long nowMillis = System.currentTimeMillis();
+        List<PointLot> batch;
+        while (!(batch = pointExpirationManager.pollExpired(nowMillis, properties.batchSize())).isEmpty()) {
+            Map<Long, List<PointLot>> lotsByUser = batch.stream()
+                    .collect(Collectors.groupingBy(PointLot::userId));
+
+            lotsByUser.forEach((userId, lots) -> {
+                try {
+                    if (!pointService.expire(userId, lots)) {
+                        pointExpirationManager.retry(lots, nowMillis);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("포인트 만료 처리에 실패했습니다. userId={}", userId, e);
+                    pointExpirationManager.retry(lots, nowMillis);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointExportProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 포인트 내역을 감사용 CSV 파일(gzip)로 내보냅니다. (point.export.enabled=true)
+ * - 요청 처리와 별개로 주기적으로 마지막으로 내보낸 id 이후의 내역을 배치 단위로 읽어 파일에 이어 씁니다.
+ * - 파일이 maxFileSize 를 넘거나 rotateInterval 이 지나면 파일을 닫고(.part 제거) 진행 위치(checkpoint)를 기록합니다.
+ * - 재시작 시 닫히지 않은 .part 파일은 삭제하고, checkpoint 이후의 내역부터 다시 내보내므로 완료된 파일 사이에 중복이나 누락이 없습니다.
+ * - checkpoint 의 내역이 저장소에 없거나 다르다면 저장소가 초기화된 것으로 보고 처음부터 내보냅니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.export", name = "enabled", havingValue = "true")
+public class PointHistoryExporter implements SchedulingConfigurer {
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryExporter.class);
+    private static final String FEED_CONSUMER = "export";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String PART_SUFFIX = ".part";
+    private static final String HEADER = "id,user_id,amount,type,update_millis\n";
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointExportProperties properties;
+    private final Clock clock;
+    private final Path directory;
+
+    private Checkpoint checkpoint;
+    private PointHistory lastWritten;
+    private ExportFile current;
+
+    public PointHistoryExporter(PointHistoryRepository pointHistoryRepository, PointExportProperties properties) {
+        this(pointHistoryRepository, properties, Clock.systemUTC());
+    }
+
+    PointHistoryExporter(PointHistoryRepository pointHistoryRepository, PointExportProperties properties, Clock clock) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.directory = Path.of(properties.directory());
+        try {
+            Files.createDirectories(directory);
+            deletePartFiles();
+            this.checkpoint = readCheckpoint();
+        } catch (IOException e) {
+            throw new UncheckedIOException("내역 내보내기 경로를 준비하지 못했습니다. directory=" + directory, e);
+        }
+        acknowledgeCheckpoint();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::exportSafely, properties.interval());
+    }
+
+    /**
+     * checkpoint 이후의 내역을 모두 내보내고, 내보낸 내역 수를 반환합니다.
+     */
+    public synchronized int export() throws IOException {
+        if (lastWritten == null) {
+            lastWritten = resolveStart();
+        }
+
+        int exported = 0;
+        List<PointHistory> batch;
+        while (!(batch = pointHistoryRepository.selectAllAfter(lastWritten.id(), properties.batchSize())).isEmpty()) {
+            if (current == null) {
+                current = ExportFile.open(directory, batch.get(0).id(), clock.millis());
+            }
+            current.write(batch);
+            lastWritten = batch.get(batch.size() - 1);
+            exported += batch.size();
+
+            if (current.size() >= properties.maxFileSize().toBytes()) {
+                rotate();
+            }
+        }
+
+        if (current != null) {
+            if (clock.millis() - current.openedMillis() >= properties.rotateInterval().toMillis()) {
+                rotate();
+            } else {
+                current.flush();
+            }
+        }
+        return exported;
+    }
+
+    /**
+     * 현재 파일을 닫아 완료 처리하고, 마지막으로 내보낸 내역을 checkpoint 로 기록합니다.
+     */
+    public synchronized void rotate() throws IOException {
+        if (current == null) {
+            return;
+        }
+        Path completed = current.complete();
+        current = null;
+        checkpoint = new Checkpoint(lastWritten.id(), lastWritten.updateMillis());
+        writeCheckpoint(checkpoint);
+        acknowledgeCheckpoint();
+        log.info("포인트 내역 파일을 완료했습니다. file={}, lastId={}", completed.getFileName(), checkpoint.id());
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() throws IOException {
+        export();
+        rotate();
+    }
+
+    /**
+     * 주기적으로 호출되며, export/rotate/shutdown 과 같은 monitor 를 잡아 실패한 파일을 버리는 도중에 다른 쓰기가 끼어들지 않도록 합니다.
+     */
+    synchronized void exportSafely() {
+        try {
+            export();
+        } catch (IOException | RuntimeException e) {
+            log.error("포인트 내역을 내보내지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+            abandonCurrentFile();
+        }
+    }
+
+    /**
+     * 쓰기에 실패한 파일은 버리고, 마지막 checkpoint 부터 다시 내보냅니다. 호출자는 이 객체의 monitor 를 잡은 상태여야 합니다.
+     */
+    private void abandonCurrentFile() {
+        if (current != null) {
+            current.discard();
+            current = null;
+        }
+        lastWritten = null;
+    }
+
+    private PointHistory resolveStart() {
+        PointHistory start = new PointHistory(0L, 0L, 0L, null, 0L);
+        if (checkpoint.id() == 0L) {
+            return start;
+        }
+        List<PointHistory> rows = pointHistoryRepository.selectAllAfter(checkpoint.id() - 1, 1);
+        if (rows.isEmpty() || rows.get(0).id() != checkpoint.id() || rows.get(0).updateMillis() != checkpoint.updateMillis()) {
+            log.warn("마지막으로 내보낸 내역을 찾을 수 없어 처음부터 내보냅니다. checkpointId={}", checkpoint.id());
+            return start;
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * 재시작하거나 파일 쓰기에 실패하면 checkpoint 의 내역부터 다시 읽으므로, checkpoint 이전의 내역만 정리할 수 있다고 알립니다.
+     */
+    private void acknowledgeCheckpoint() {
+        pointHistoryRepository.acknowledge(FEED_CONSUMER, Math.max(0L, checkpoint.id() - 1));
+    }
+
+    private void deletePartFiles() throws IOException {
+        try (DirectoryStream<Path> parts = Files.newDirectoryStream(directory, "*" + PART_SUFFIX)) {
+            for (Path part : parts) {
+                Files.delete(part);
+            }
+        }
+    }
+
+    private Checkpoint readCheckpoint() throws IOException {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(path)) {
+            return new Checkpoint(0L, 0L);
+        }
+        String[] values = Files.readString(path).trim().split(",");
+        return new Checkpoint(Long.parseLong(values[0]), Long.parseLong(values[1]));
+    }
+
+    private void writeCheckpoint(Checkpoint checkpoint) throws IOException {
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(temp, checkpoint.id() + "," + checkpoint.updateMillis());
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private record Checkpoint(long id, long updateMillis) {
+    }
+
+    /**
+     * 작성 중인 파일 (.part)
+     */
+    private static final class ExportFile {
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final Path part;
+        private final Path target;
+        private final FileChannel channel;
+        private final GZIPOutputStream gzip;
+        private final OutputStream out;
+        private final long openedMillis;
+        private long size;
+
+        private ExportFile(Path part, Path target, FileChannel channel, long openedMillis) throws IOException {
+            this.part = part;
+            this.target = target;
+            this.channel = channel;
+            this.gzip = new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE, true);
+            this.out = new BufferedOutputStream(gzip, BUFFER_SIZE);
+            this.openedMillis = openedMillis;
+        }
+
+        static ExportFile open(Path directory, long firstId, long nowMillis) throws IOException {
+            String name = "point-history-" + FILE_TIME_FORMAT.format(Instant.ofEpochMilli(nowMillis)) + "-" + firstId + ".csv.gz";
+            Path target = directory.resolve(name);
+            Path part = directory.resolve(name + PART_SUFFIX);
+            FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            ExportFile file = new ExportFile(part, target, channel, nowMillis);
+            file.append(HEADER);
+            return file;
+        }
+
+        void write(List<PointHistory> rows) throws IOException {
+            StringBuilder builder = new StringBuilder(rows.size() * 48);
+            for (PointHistory row : rows) {
+                builder.append(row.id()).append(',')
+                        .append(row.userId()).append(',')
+                        .append(row.amount()).append(',')
+                        .append(row.type()).append(',')
+                        .append(row.updateMillis()).append('\n');
+            }
+            append(builder);
+        }
+
+        void flush() throws IOException {
+            out.flush();
+        }
+
+        Path complete() throws IOException {
+            out.close();
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        }
+
+        /**
+         * 파일을 먼저 닫아 더 이상 기록하지 않고, gzip 스트림을 닫아 Deflater 의 native 메모리를 해제한 뒤 파일을 삭제합니다.
+         * 닫힌 파일에 gzip trailer 를 쓰다 실패하더라도, GZIPOutputStream.close() 는 Deflater 를 해제합니다.
+         */
+        void discard() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("작성 중인 내역 파일을 닫지 못했습니다. file={}", part, e);
+            }
+            try {
+                gzip.close();
+            } catch (IOException ignored) {
+                // 파일이 이미 닫혀 trailer 를 쓰지 못한 경우이며, 파일은 삭제하므로 무시합니다.
+            }
+            try {
+                Files.deleteIfExists(part);
+            } catch (IOException e) {
+                log.warn("작성 중인 내역 파일을 삭제하지 못했습니다. file={}", part, e);
+            }
+        }
+
+        long size() {
+            return size;
+        }
+
+        long openedMillis() {
+            return openedMillis;
+        }
+
+        private void append(CharSequence text) throws IOException {
+            byte[] bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+            out.write(bytes);
+            size += bytes.length;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.service;
+
+/**
+ * 사용자 잠금을 waitTimeout 안에 획득하지 못한 경우
+ * 요청은 반영되지 않았으므로, 호출자는 잠시 후 같은 요청을 다시 시도할 수 있습니다.
+ */
+public class PointLockTimeoutException extends RuntimeException {
+    public PointLockTimeoutException(long id) {
+        super("사용자 잠금을 획득하지 못했습니다. 잠시 후 다시 시도해주세요. id=" + id);
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointPolicyProperties;
+
+/**
+ * 등급별 한도를 미리 계산해 둔 검증기
+ * 한도와 오류 메시지는 생성 시점에 필드로 고정되며, 검증 시에는 비교 연산만 수행합니다.
+ */
+public final class PointPolicy {
+    private final String tier;
+    private final long maxBalance;
+    private final long maxChargeAmount;
+    private final long maxUseAmount;
+    private final long dailyChargeLimit;
+
+    private final String maxBalanceMessage;
+    private final String maxChargeAmountMessage;
+    private final String maxUseAmountMessage;
+    private final String dailyChargeLimitMessage;
+
+    PointPolicy(String tier, PointPolicyProperties.Tier limits) {
+        this.tier = tier;
+        this.maxBalance = limits.maxBalance();
+        this.maxChargeAmount = limits.maxChargeAmount();
+        this.maxUseAmount = limits.maxUseAmount();
+        this.dailyChargeLimit = limits.dailyChargeLimit();
+
+        this.maxBalanceMessage = String.format("충전 후 잔액은 %,d 포인트를 넘을 수 없습니다.", maxBalance);
+        this.maxChargeAmountMessage = String.format("1회 충전 금액은 %,d 포인트를 넘을 수 없습니다.", maxChargeAmount);
+        this.maxUseAmountMessage = String.format("1회 사용 금액은 %,d 포인트를 넘을 수 없습니다.", maxUseAmount);
+        this.dailyChargeLimitMessage = String.format("하루 충전 금액은 %,d 포인트를 넘을 수 없습니다.", dailyChargeLimit);
+    }
+
+    public String tier() {
+        return tier;
+    }
+
+    public void validateForCharge(long existingPoint, long pointToCharge, long chargedToday) {
+        if (pointToCharge <= 0) {
+            throw new IllegalArgumentException("충전할 금액은 0보다 커야 합니다.");
+        }
+        if (pointToCharge > maxChargeAmount) {
+            throw new IllegalArgumentException(maxChargeAmountMessage);
+        }
+        // 한도가 Long.MAX_VALUE 인 경우에도 overflow 가 발생하지 않도록 한도에서 빼서 비교
+        if (pointToCharge > maxBalance - existingPoint) {
+            throw new IllegalArgumentException(maxBalanceMessage);
+        }
+        if (pointToCharge > dailyChargeLimit - chargedToday) {
+            throw new IllegalArgumentException(dailyChargeLimitMessage);
+        }
+    }
+
+    public void validateForUse(long existingPoint, long pointToUse) {
+        if (pointToUse <= 0) {
+            throw new IllegalArgumentException("사용할 금액은 0보다 커야 합니다.");
+        }
+        if (pointToUse > maxUseAmount) {
+            throw new IllegalArgumentException(maxUseAmountMessage);
+        }
+        if (existingPoint < pointToUse) {
+            throw new IllegalArgumentException("충전된 금액보다 큰 금액은 사용할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 송금 받는 경우에는 충전과 달리 최대 잔액만 확인합니다.
+     */
+    public void validateForReceive(long existingPoint, long pointToReceive) {
+        if (pointToReceive <= 0) {
+            throw new IllegalArgumentException("송금할 금액은 0보다 커야 합니다.");
+        }
+        if (pointToReceive > maxBalance - existingPoint) {
+            throw new IllegalArgumentException(maxBalanceMessage);
+        }
+    }
+}
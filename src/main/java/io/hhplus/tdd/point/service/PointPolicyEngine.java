@@ -0,0 +1,138 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointPolicyProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 설정된 등급별 정책을 PointPolicy 로 미리 변환해 두고, 사용자에게 적용할 정책을 찾아줍니다.
+ * - 정책은 통째로 교체되므로, 다시 불러오는 중에도 요청은 이전 정책 또는 새 정책 중 하나로 일관되게 검증됩니다.
+ * - 사용자별 등급은 불러올 때 정렬된 사용자 id 배열과 정책 배열로 변환해, 요청마다 boxing 이나 해시 조회 없이 이진 탐색으로 찾습니다.
+ *   등급이 지정된 사용자가 없으면 탐색 없이 기본 정책을 반환합니다.
+ * - 하루 충전 금액은 내역을 다시 합산하지 않고, 사용자별 누적 값으로 관리합니다.
+ * - 지난 날짜의 누적 값은 정책을 다시 불러올 때와 주기적으로 정리합니다.
+ */
+@Component
+public class PointPolicyEngine implements SchedulingConfigurer {
+    private static final Duration DAILY_CHARGE_PRUNE_INTERVAL = Duration.ofHours(1);
+    private static final PointPolicyProperties.Tier DEFAULT_TIER = new PointPolicyProperties.Tier(
+            1_000_000L, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE
+    );
+
+    private final Clock clock;
+    private final Map<Long, DailyCharge> dailyCharges = new ConcurrentHashMap<>();
+    private volatile CompiledPolicies policies;
+
+    @Autowired
+    public PointPolicyEngine(PointPolicyProperties properties) {
+        this(properties, Clock.systemDefaultZone());
+    }
+
+    PointPolicyEngine(PointPolicyProperties properties, Clock clock) {
+        this.clock = clock;
+        this.policies = compile(properties);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::pruneDailyCharges, DAILY_CHARGE_PRUNE_INTERVAL);
+    }
+
+    public PointPolicy policyOf(long userId) {
+        CompiledPolicies current = policies;
+        if (current.userIds().length == 0) {
+            return current.defaultPolicy();
+        }
+        int index = Arrays.binarySearch(current.userIds(), userId);
+        return index >= 0 ? current.userPolicies()[index] : current.defaultPolicy();
+    }
+
+    /**
+     * 새 설정으로 정책을 교체합니다. 설정이 올바르지 않으면 예외를 던지고 기존 정책을 유지합니다.
+     */
+    public void reload(PointPolicyProperties properties) {
+        this.policies = compile(properties);
+        pruneDailyCharges();
+    }
+
+    /**
+     * 오늘 이전 날짜의 하루 충전 금액을 삭제합니다.
+     * 값이 같은 경우에만 삭제하므로, 정리하는 도중에 오늘 날짜로 갱신된 값은 유지됩니다.
+     */
+    public void pruneDailyCharges() {
+        long today = today();
+        dailyCharges.values().removeIf(dailyCharge -> dailyCharge.epochDay() < today);
+    }
+
+    /**
+     * 하루 충전 금액을 보관 중인 사용자 수
+     */
+    int dailyChargeCount() {
+        return dailyCharges.size();
+    }
+
+    public long chargedToday(long userId) {
+        DailyCharge dailyCharge = dailyCharges.get(userId);
+        return dailyCharge != null && dailyCharge.epochDay() == today() ? dailyCharge.amount() : 0L;
+    }
+
+    public void recordCharge(long userId, long amount) {
+        long today = today();
+        dailyCharges.compute(userId, (id, dailyCharge) -> dailyCharge != null && dailyCharge.epochDay() == today
+                ? new DailyCharge(today, dailyCharge.amount() + amount)
+                : new DailyCharge(today, amount));
+    }
+
+    private long today() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+
+    private static CompiledPolicies compile(PointPolicyProperties properties) {
+        Map<String, PointPolicy> tierPolicies = new HashMap<>();
+        if (properties.tiers() != null) {
+            properties.tiers().forEach((tier, limits) -> tierPolicies.put(tier, new PointPolicy(tier, limits)));
+        }
+        tierPolicies.computeIfAbsent(properties.defaultTier(), tier -> new PointPolicy(tier, DEFAULT_TIER));
+
+        Map<Long, PointPolicy> userPolicies = new TreeMap<>();
+        if (properties.userTiers() != null) {
+            properties.userTiers().forEach((userId, tier) -> {
+                PointPolicy policy = tierPolicies.get(tier);
+                if (policy == null) {
+                    throw new IllegalArgumentException("존재하지 않는 등급입니다. userId=" + userId + ", tier=" + tier);
+                }
+                userPolicies.put(userId, policy);
+            });
+        }
+
+        // TreeMap 은 id 순서로 순회하므로, 두 배열의 같은 위치가 같은 사용자를 가리킵니다.
+        long[] userIds = new long[userPolicies.size()];
+        PointPolicy[] policies = new PointPolicy[userPolicies.size()];
+        int index = 0;
+        for (Map.Entry<Long, PointPolicy> entry : userPolicies.entrySet()) {
+            userIds[index] = entry.getKey();
+            policies[index++] = entry.getValue();
+        }
+        return new CompiledPolicies(tierPolicies.get(properties.defaultTier()), userIds, policies);
+    }
+
+    /**
+     * userIds 는 오름차순으로 정렬되어 있고, userPolicies 의 같은 위치가 해당 사용자의 정책입니다.
+     */
+    private record CompiledPolicies(PointPolicy defaultPolicy, long[] userIds, PointPolicy[] userPolicies) {
+    }
+
+    private record DailyCharge(long epochDay, long amount) {
+    }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointPolicyProperties;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * point.policy.reload-location 에 지정된 파일이 변경되면 정책을 다시 불러옵니다.
+ * 파일은 application.yml 과 같은 형식(point.policy 하위)으로 작성합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointPolicyReloader implements SchedulingConfigurer {
+    private static final Logger log = LoggerFactory.getLogger(PointPolicyReloader.class);
+
+    private final PointPolicyEngine pointPolicyEngine;
+    private final PointPolicyProperties properties;
+    private volatile long lastModifiedMillis = -1L;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (StringUtils.hasText(properties.reloadLocation())) {
+            taskRegistrar.addFixedDelayTask(this::reloadIfModified, properties.reloadInterval());
+        }
+    }
+
+    public void reloadIfModified() {
+        Path path = Path.of(properties.reloadLocation());
+        try {
+            if (!Files.exists(path)) {
+                return;
+            }
+            long modifiedMillis = Files.getLastModifiedTime(path).toMillis();
+            if (modifiedMillis == lastModifiedMillis) {
+                return;
+            }
+
+            List<PropertySource<?>> sources = new YamlPropertySourceLoader().load("point-policy", new FileSystemResource(path));
+            PointPolicyProperties reloaded = new Binder(ConfigurationPropertySources.from(sources))
+                    .bind("point.policy", PointPolicyProperties.class)
+                    .orElseThrow(() -> new IllegalArgumentException("point.policy 설정이 없습니다."));
+
+            pointPolicyEngine.reload(reloaded);
+            lastModifiedMillis = modifiedMillis;
+            log.info("포인트 정책을 다시 불러왔습니다. location={}", path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("포인트 정책을 다시 불러오지 못해 기존 정책을 유지합니다. location={}", path, e);
+        }
+    }
+}
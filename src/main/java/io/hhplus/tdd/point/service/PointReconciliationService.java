@@ -0,0 +1,253 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointReconciliationProperties;
+import io.hhplus.tdd.point.dto.PointDiscrepancy;
+import io.hhplus.tdd.point.dto.PointReconciliationReport;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 잔액이 포인트 내역의 합계(충전 - 사용 - 만료)와 일치하는지 검증합니다.
+ * - 마지막으로 검증한 내역 id(checkpoint) 이후의 내역만 읽어 사용자별 합계에 누적합니다.
+ * - 새 내역이 있는 사용자만 잔액과 비교하며, 집계와 비교는 병렬로 수행합니다.
+ * - 처리 중인 요청 때문에 잔액이 다를 수 있으므로, 불일치는 사용자 락을 잡고 전체 내역으로 다시 확인한 뒤 보고합니다.
+ * - 검증을 마치면 checkpoint 를 저장소에 알려, id 순서 조회용으로 보관 중인 내역을 정리할 수 있게 합니다.
+ * - snapshotLocation 이 지정되면 검증을 마칠 때마다 checkpoint 와 사용자별 합계를 파일에 기록하고, 재시작하면 이어서 검증합니다.
+ *   checkpoint 의 내역이 저장소에 없거나 다르다면 저장소가 초기화된 것으로 보고 처음부터 검증합니다.
+ * - 검증은 한 번에 하나만 수행하며, 요청으로 실행하는 검증은 진행 중인 검증을 기다리지 않고 manualInterval 간격으로 제한합니다.
+ */
+@Service
+public class PointReconciliationService implements SchedulingConfigurer {
+    private static final Logger log = LoggerFactory.getLogger(PointReconciliationService.class);
+    private static final String FEED_CONSUMER = "reconciliation";
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final LockManager lockManager;
+    private final PointReconciliationProperties properties;
+    private final ForkJoinPool pool;
+    private final ReentrantLock running = new ReentrantLock();
+
+    private final Map<Long, Long> historySums = new ConcurrentHashMap<>();
+    private long checkpointId;
+    private long checkpointUpdateMillis;
+    private volatile PointReconciliationReport lastReport = PointReconciliationReport.empty();
+
+    public PointReconciliationService(
+            UserPointRepository userPointRepository,
+            PointHistoryRepository pointHistoryRepository,
+            LockManager lockManager,
+            PointReconciliationProperties properties
+    ) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.lockManager = lockManager;
+        this.properties = properties;
+        this.pool = new ForkJoinPool(properties.parallelism());
+        if (StringUtils.hasText(properties.snapshotLocation())) {
+            restoreSnapshot(Path.of(properties.snapshotLocation()));
+        }
+        acknowledgeCheckpoint();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addCronTask(this::reconcile, properties.cron());
+    }
+
+    public PointReconciliationReport getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 정합성 검증을 수행합니다. 다른 검증이 진행 중이라면 끝날 때까지 기다립니다.
+     */
+    public PointReconciliationReport reconcile() {
+        running.lock();
+        try {
+            return doReconcile();
+        } finally {
+            running.unlock();
+        }
+    }
+
+    /**
+     * 요청으로 정합성 검증을 수행합니다.
+     * 검증이 진행 중이거나 마지막 검증을 시작한 후 manualInterval 이 지나지 않았다면, 수행하지 않고 PointReconciliationThrottledException 을 던집니다.
+     */
+    public PointReconciliationReport reconcileOnRequest() {
+        if (!running.tryLock()) {
+            throw new PointReconciliationThrottledException(Math.max(1L, properties.manualInterval().toSeconds()));
+        }
+        try {
+            long remainingMillis = lastReport.startedMillis() + properties.manualInterval().toMillis() - System.currentTimeMillis();
+            if (lastReport.startedMillis() > 0 && remainingMillis > 0) {
+                throw new PointReconciliationThrottledException(Math.max(1L, (remainingMillis + 999) / 1000));
+            }
+            return doReconcile();
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private PointReconciliationReport doReconcile() {
+        long startedMillis = System.currentTimeMillis();
+        Set<Long> touchedUserIds = ConcurrentHashMap.newKeySet();
+        long scannedCount = 0;
+
+        // 1. checkpoint 이후의 내역을 배치 단위로 읽어 사용자별 합계에 누적
+        List<PointHistory> batch;
+        while (!(batch = pointHistoryRepository.selectAllAfter(checkpointId, properties.batchSize())).isEmpty()) {
+            List<PointHistory> rows = batch;
+            Map<Long, Long> batchSums = pool.submit(() -> rows.parallelStream()
+                    .collect(Collectors.groupingByConcurrent(PointHistory::userId, Collectors.summingLong(PointHistory::signedAmount)))
+            ).join();
+
+            batchSums.forEach((userId, sum) -> historySums.merge(userId, sum, Long::sum));
+            touchedUserIds.addAll(batchSums.keySet());
+            checkpointId = rows.get(rows.size() - 1).id();
+            checkpointUpdateMillis = rows.get(rows.size() - 1).updateMillis();
+            scannedCount += rows.size();
+        }
+
+        if (StringUtils.hasText(properties.snapshotLocation())) {
+            writeSnapshot(Path.of(properties.snapshotLocation()));
+        }
+        acknowledgeCheckpoint();
+
+        // 2. 새 내역이 있는 사용자의 잔액 비교
+        List<PointDiscrepancy> discrepancies = pool.submit(() -> touchedUserIds.parallelStream()
+                .map(this::verify)
+                .flatMap(Optional::stream)
+                .toList()
+        ).join();
+
+        discrepancies.forEach(discrepancy ->
+                log.warn("포인트 잔액이 내역 합계와 일치하지 않습니다. userId={}, point={}, historySum={}",
+                        discrepancy.userId(), discrepancy.point(), discrepancy.historySum()));
+
+        lastReport = new PointReconciliationReport(
+                checkpointId,
+                scannedCount,
+                touchedUserIds.size(),
+                discrepancies,
+                startedMillis,
+                System.currentTimeMillis() - startedMillis
+        );
+        log.info("포인트 정합성 검증을 완료했습니다. checkpointId={}, scanned={}, users={}, discrepancies={}, elapsed={}ms",
+                checkpointId, scannedCount, touchedUserIds.size(), discrepancies.size(), lastReport.elapsedMillis());
+        return lastReport;
+    }
+
+    /**
+     * 재시작하면 checkpoint 의 내역이 그대로 있는지 확인하므로, checkpoint 이전의 내역만 정리할 수 있다고 알립니다.
+     */
+    private void acknowledgeCheckpoint() {
+        pointHistoryRepository.acknowledge(FEED_CONSUMER, Math.max(0L, checkpointId - 1));
+    }
+
+    /**
+     * 첫 줄에 checkpoint(id,updateMillis), 이후 줄마다 사용자별 합계(userId,sum)를 기록합니다.
+     * 임시 파일에 쓴 뒤 교체하므로, 기록 도중 멈추더라도 이전 snapshot 이 유지됩니다.
+     */
+    private void writeSnapshot(Path path) {
+        StringBuilder builder = new StringBuilder(32 + historySums.size() * 24);
+        builder.append(checkpointId).append(',').append(checkpointUpdateMillis).append('\n');
+        historySums.forEach((userId, sum) -> builder.append(userId).append(',').append(sum).append('\n'));
+        try {
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.writeString(temp, builder);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // 기록하지 못해도 메모리의 결과로 계속 검증하고, 재시작하면 마지막으로 기록한 snapshot 부터 다시 검증합니다.
+            log.error("정합성 검증 snapshot 을 기록하지 못했습니다. location={}", path, e);
+        }
+    }
+
+    private void restoreSnapshot(Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("정합성 검증 snapshot 을 읽지 못했습니다. location=" + path, e);
+        }
+        String[] checkpoint = lines.get(0).split(",");
+        long id = Long.parseLong(checkpoint[0]);
+        long updateMillis = Long.parseLong(checkpoint[1]);
+        if (id == 0L) {
+            return;
+        }
+        List<PointHistory> rows = pointHistoryRepository.selectAllAfter(id - 1, 1);
+        if (rows.isEmpty() || rows.get(0).id() != id || rows.get(0).updateMillis() != updateMillis) {
+            log.warn("마지막으로 검증한 내역을 찾을 수 없어 처음부터 검증합니다. checkpointId={}", id);
+            return;
+        }
+
+        for (String line : lines.subList(1, lines.size())) {
+            String[] values = line.split(",");
+            historySums.put(Long.parseLong(values[0]), Long.parseLong(values[1]));
+        }
+        checkpointId = id;
+        checkpointUpdateMillis = updateMillis;
+        log.info("정합성 검증 snapshot 을 불러왔습니다. checkpointId={}, users={}", checkpointId, historySums.size());
+    }
+
+    private Optional<PointDiscrepancy> verify(long userId) {
+        long historySum = historySums.getOrDefault(userId, 0L);
+        if (userPointRepository.selectById(userId).point() == historySum) {
+            return Optional.empty();
+        }
+
+        // checkpoint 이후에 반영된 요청 때문일 수 있으므로, 락을 잡고 전체 내역으로 다시 확인
+        Lock lock = lockManager.getLock(userId);
+        try {
+            lockManager.acquire(userId, lock);
+        } catch (PointLockTimeoutException e) {
+            // 요청이 계속 처리 중인 사용자는 이번 검증에서 제외합니다.
+            log.warn("사용자 잠금을 획득하지 못해 정합성 검증에서 제외합니다. userId={}", userId);
+            return Optional.empty();
+        }
+        try {
+            long point = userPointRepository.selectById(userId).point();
+            long fullHistorySum = pointHistoryRepository.selectAllByUserId(userId).stream()
+                    .mapToLong(PointHistory::signedAmount)
+                    .sum();
+            return point == fullHistorySum
+                    ? Optional.empty()
+                    : Optional.of(new PointDiscrepancy(userId, point, fullHistorySum));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.service;
+
+/**
+ * 요청으로 실행한 정합성 검증이 이미 진행 중이거나, 마지막 검증 후 manualInterval 이 지나지 않은 경우
+ * 호출자는 retryAfterSeconds 뒤에 다시 요청할 수 있습니다.
+ */
+public class PointReconciliationThrottledException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public PointReconciliationThrottledException(long retryAfterSeconds) {
+        super("정합성 검증을 이미 수행 중이거나 최근에 수행했습니다. retryAfterSeconds=" + retryAfterSeconds);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,8 +1,11 @@
 package io.hhplus.tdd.point.service;
 
 import io.hhplus.tdd.point.dto.PointChargeRequest;
+import io.hhplus.tdd.point.dto.PointTransferRequest;
+import io.hhplus.tdd.point.dto.PointTransferResponse;
 import io.hhplus.tdd.point.dto.PointUseRequest;
 import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointLot;
 import io.hhplus.tdd.point.entity.UserPoint;
 import io.hhplus.tdd.point.entity.type.TransactionType;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
@@ -11,7 +14,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
 
 @RequiredArgsConstructor
 @Service
@@ -20,10 +24,13 @@ public class PointService {
     private final PointHistoryRepository pointHistoryRepository;
     private final PointValidator pointValidator;
     private final LockManager lockManager;
+    private final PointExpirationManager pointExpirationManager;
+    private final HotUserDetector hotUserDetector;
+    private final PointCombiner pointCombiner;
 
     public UserPoint getPoint(long id) {
-        ReentrantLock lock = lockManager.getLock(id);
-        lock.lock();
+        Lock lock = lockManager.getLock(id);
+        lockManager.acquire(id, lock);
         try {
             return userPointRepository.selectById(id);
         } finally {
@@ -32,8 +39,8 @@ public class PointService {
     }
 
     public List<PointHistory> getHistories(long userId) {
-        ReentrantLock lock = lockManager.getLock(userId);
-        lock.lock();
+        Lock lock = lockManager.getLock(userId);
+        lockManager.acquire(userId, lock);
         try {
             return pointHistoryRepository.selectAllByUserId(userId);
         } finally {
@@ -42,8 +49,13 @@ public class PointService {
     }
 
     public UserPoint charge(long id, PointChargeRequest request) {
-        ReentrantLock lock = lockManager.getLock(id);
-        lock.lock();
+        // 요청이 몰리는 사용자는 요청을 모아서 처리
+        if (hotUserDetector.record(id)) {
+            return pointCombiner.charge(id, request.amount());
+        }
+
+        Lock lock = lockManager.getLock(id);
+        lockManager.acquire(id, lock);
 
         try {
             UserPoint existingUserPoint = userPointRepository.selectById(id);
@@ -53,11 +65,16 @@ public class PointService {
             long afterPoint = beforePoint + pointToCharge;
 
             // 정책 검증
-            pointValidator.validateForCharge(beforePoint, pointToCharge);
-            // 포인트 충전
-            UserPoint result = userPointRepository.insertOrUpdate(id, afterPoint);
-            // 충전 내역 등록
-            pointHistoryRepository.insert(id, pointToCharge, TransactionType.CHARGE, result.updateMillis());
+            pointValidator.validateForCharge(id, beforePoint, pointToCharge);
+            // 포인트 충전 및 충전 내역 등록
+            UserPoint result = newUnitOfWork(lock)
+                    .stageBalance(existingUserPoint, afterPoint)
+                    .stageHistory(id, pointToCharge, TransactionType.CHARGE)
+                    .commit()
+                    .get(id);
+            // 만료 대상 등록 및 하루 충전 금액 누적
+            pointExpirationManager.register(id, pointToCharge, result.updateMillis());
+            pointValidator.recordCharge(id, pointToCharge);
 
             return result;
         } finally {
@@ -66,8 +83,13 @@ public class PointService {
     }
 
     public UserPoint use(long id, PointUseRequest request) {
-        ReentrantLock lock = lockManager.getLock(id);
-        lock.lock();
+        // 요청이 몰리는 사용자는 요청을 모아서 처리
+        if (hotUserDetector.record(id)) {
+            return pointCombiner.use(id, request.amount());
+        }
+
+        Lock lock = lockManager.getLock(id);
+        lockManager.acquire(id, lock);
         try {
             UserPoint existingUserPoint = userPointRepository.selectById(id);
 
@@ -76,15 +98,98 @@ public class PointService {
             long afterPoint = beforePoint - pointToUse;
 
             // 정책 검증
-            pointValidator.validateForUse(beforePoint, pointToUse);
-            // 포인트 사용
-            UserPoint result = userPointRepository.insertOrUpdate(id, afterPoint);
-            // 사용 내역 등록
-            pointHistoryRepository.insert(id, pointToUse, TransactionType.USE, result.updateMillis());
+            pointValidator.validateForUse(id, beforePoint, pointToUse);
+            // 포인트 사용 및 사용 내역 등록
+            UserPoint result = newUnitOfWork(lock)
+                    .stageBalance(existingUserPoint, afterPoint)
+                    .stageHistory(id, pointToUse, TransactionType.USE)
+                    .commit()
+                    .get(id);
+            // 먼저 충전된 포인트부터 차감
+            pointExpirationManager.consume(id, pointToUse);
 
             return result;
         } finally {
             lock.unlock();
         }
     }
+
+    public PointTransferResponse transfer(PointTransferRequest request) {
+        long senderId = request.senderId();
+        long receiverId = request.receiverId();
+        pointValidator.validateForTransfer(senderId, receiverId);
+
+        // 교착 상태를 피하기 위해 항상 id가 작은 사용자의 락부터 획득
+        long firstId = Math.min(senderId, receiverId);
+        long secondId = Math.max(senderId, receiverId);
+        Lock firstLock = lockManager.getLock(firstId);
+        Lock secondLock = lockManager.getLock(secondId);
+        lockManager.acquire(firstId, firstLock);
+        try {
+            lockManager.acquire(secondId, secondLock);
+            try {
+                UserPoint sender = userPointRepository.selectById(senderId);
+                UserPoint receiver = userPointRepository.selectById(receiverId);
+                long pointToTransfer = request.amount();
+
+                // 정책 검증
+                pointValidator.validateForUse(senderId, sender.point(), pointToTransfer);
+                pointValidator.validateForReceive(receiverId, receiver.point(), pointToTransfer);
+                // 양쪽 잔액 변경 및 내역 등록
+                Map<Long, UserPoint> results = newUnitOfWork(firstLock, secondLock)
+                        .stageBalance(sender, sender.point() - pointToTransfer)
+                        .stageBalance(receiver, receiver.point() + pointToTransfer)
+                        .stageHistory(senderId, pointToTransfer, TransactionType.USE)
+                        .stageHistory(receiverId, pointToTransfer, TransactionType.CHARGE)
+                        .commit();
+                // 보내는 사용자는 먼저 충전된 포인트부터 차감하고, 받는 사용자는 새로 만료 대상을 등록
+                pointExpirationManager.consume(senderId, pointToTransfer);
+                pointExpirationManager.register(receiverId, pointToTransfer, results.get(receiverId).updateMillis());
+
+                return new PointTransferResponse(results.get(senderId), results.get(receiverId));
+            } finally {
+                secondLock.unlock();
+            }
+        } finally {
+            firstLock.unlock();
+        }
+    }
+
+    /**
+     * 만료 시점이 지난 포인트 묶음을 소멸시킵니다.
+     * 요청 처리를 지연시키지 않도록 락을 바로 획득할 수 없으면 처리하지 않고 false 를 반환합니다.
+     */
+    public boolean expire(long id, List<PointLot> pointLots) {
+        Lock lock = lockManager.getLock(id);
+        if (!lock.tryLock()) {
+            return false;
+        }
+        try {
+            List<PointLot> expiredLots = pointExpirationManager.findExpired(id, pointLots, System.currentTimeMillis());
+            if (expiredLots.isEmpty()) {
+                return true;
+            }
+            UserPoint existingUserPoint = userPointRepository.selectById(id);
+
+            long beforePoint = existingUserPoint.point();
+            long pointToExpire = Math.min(beforePoint, expiredLots.stream().mapToLong(PointLot::remaining).sum());
+
+            // 포인트 소멸 및 만료 내역 등록
+            if (pointToExpire > 0) {
+                newUnitOfWork(lock)
+                        .stageBalance(existingUserPoint, beforePoint - pointToExpire)
+                        .stageHistory(id, pointToExpire, TransactionType.EXPIRE)
+                        .commit();
+            }
+            pointExpirationManager.expire(expiredLots);
+
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PointUnitOfWork newUnitOfWork(Lock... locks) {
+        return new PointUnitOfWork(userPointRepository, pointHistoryRepository).fencedBy(locks);
+    }
 }
@@ -0,0 +1,184 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 포인트 잔액 변경과 내역 등록을 하나의 작업 단위로 묶어 반영합니다.
+ * - 잔액과 내역을 먼저 스테이징한 뒤, commit 시점에 잔액 -> 내역 순서로 반영합니다.
+ * - 반영 도중 실패하면 시도한 잔액은 이전 값으로 되돌리고, 이미 등록된 내역은 반대 내역을 등록해 상쇄합니다.
+ * - 예외를 던진 내역 등록도 실제로는 반영되었을 수 있으므로, 사용자의 내역을 조회해 반영된 내역을 찾으면 함께 상쇄합니다.
+ * - 보상 작업은 실패한 경우에만 수행되므로, 정상 흐름에서 테이블 접근 횟수는 늘어나지 않습니다.
+ * 호출자는 스테이징한 모든 사용자의 락을 잡은 상태에서 commit 해야 합니다.
+ * 락이 FencedLock 이라면 쓰기마다 직전에 fencing token 을 확인하고 lease 를 연장해, lease 가 만료된 보유자의 쓰기를 막습니다.
+ * - 쓰기가 많은 commit 도 쓰기 하나가 lease 보다 짧다면 도중에 lease 가 만료되지 않습니다.
+ * - 도중에 lease 를 잃으면 남은 쓰기를 멈추고, 되돌리는 쓰기도 새 보유자의 쓰기를 덮어쓸 수 있으므로 수행하지 않습니다.
+ */
+public class PointUnitOfWork {
+    private static final Logger log = LoggerFactory.getLogger(PointUnitOfWork.class);
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final Map<Long, StagedBalance> stagedBalances = new LinkedHashMap<>();
+    private final List<StagedHistory> stagedHistories = new ArrayList<>();
+    private final List<FencedLock> fencedLocks = new ArrayList<>();
+    private boolean fencingLost;
+
+    public PointUnitOfWork(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+    }
+
+    /**
+     * 잔액 변경을 스테이징합니다. 같은 사용자를 다시 스테이징하면 최초의 이전 잔액은 유지하고 변경 후 잔액만 갱신합니다.
+     */
+    public PointUnitOfWork stageBalance(UserPoint before, long afterPoint) {
+        stagedBalances.merge(
+                before.id(),
+                new StagedBalance(before.id(), before.point(), afterPoint),
+                (existing, staged) -> new StagedBalance(existing.userId(), existing.beforePoint(), staged.afterPoint())
+        );
+        return this;
+    }
+
+    public PointUnitOfWork stageHistory(long userId, long amount, TransactionType type) {
+        stagedHistories.add(new StagedHistory(userId, amount, type));
+        return this;
+    }
+
+    /**
+     * 쓰기 전에 확인할 락을 등록합니다. fencing token 을 지원하지 않는 락은 확인하지 않습니다.
+     */
+    public PointUnitOfWork fencedBy(Lock... locks) {
+        for (Lock lock : locks) {
+            if (lock instanceof FencedLock fencedLock) {
+                fencedLocks.add(fencedLock);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 스테이징한 잔액과 내역을 반영하고, 사용자별로 반영된 잔액을 반환합니다.
+     * 반영에 실패하면 보상 작업을 수행한 뒤 원래 예외를 그대로 던집니다.
+     * fencing token 이 유효하지 않으면 남은 쓰기를 반영하지 않고 IllegalStateException 을 던집니다.
+     */
+    public Map<Long, UserPoint> commit() {
+        List<StagedBalance> attemptedBalances = new ArrayList<>();
+        List<PointHistory> insertedHistories = new ArrayList<>();
+        Map<Long, UserPoint> results = new LinkedHashMap<>();
+        AttemptedHistory pendingHistory = null;
+
+        try {
+            for (StagedBalance staged : stagedBalances.values()) {
+                checkFencingTokens();
+                attemptedBalances.add(staged);
+                results.put(staged.userId(), userPointRepository.insertOrUpdate(staged.userId(), staged.afterPoint()));
+            }
+            for (StagedHistory staged : stagedHistories) {
+                checkFencingTokens();
+                UserPoint written = results.get(staged.userId());
+                long updateMillis = written != null ? written.updateMillis() : System.currentTimeMillis();
+                pendingHistory = new AttemptedHistory(staged, updateMillis);
+                insertedHistories.add(pointHistoryRepository.insert(staged.userId(), staged.amount(), staged.type(), updateMillis));
+                pendingHistory = null;
+            }
+            return results;
+        } catch (RuntimeException e) {
+            if (!fencingLost) {
+                if (pendingHistory != null) {
+                    findUnconfirmedHistory(pendingHistory, insertedHistories, e).ifPresent(insertedHistories::add);
+                }
+                compensate(attemptedBalances, insertedHistories, e);
+            } else if (!attemptedBalances.isEmpty()) {
+                // 정합성 검증에서 불일치로 보고되므로, 확인할 수 있도록 반영된 범위를 남깁니다.
+                log.error("반영 도중 잠금을 잃어 남은 쓰기와 보상 작업을 수행하지 않았습니다. balances={}, insertedHistories={}",
+                        attemptedBalances, insertedHistories, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 확인과 함께 lease 가 연장되므로, 쓰기 하나가 lease 보다 짧다면 commit 이 길어져도 lease 는 만료되지 않습니다.
+     */
+    private void checkFencingTokens() {
+        try {
+            fencedLocks.forEach(FencedLock::checkFencingToken);
+        } catch (RuntimeException e) {
+            fencingLost = true;
+            throw e;
+        }
+    }
+
+    /**
+     * 예외를 던진 내역 등록이 실제로 반영되었는지 사용자의 내역에서 찾습니다. (실패한 경우에만 조회합니다.)
+     * 락을 잡은 상태이므로 그 사이 같은 사용자의 내역은 등록되지 않으며, 이번 commit 에서 마지막으로 등록을 확인한 내역 이후에
+     * 같은 금액, 종류, 시각으로 등록된 내역이 있다면 반영된 것으로 봅니다.
+     */
+    private Optional<PointHistory> findUnconfirmedHistory(AttemptedHistory attempted, List<PointHistory> insertedHistories, RuntimeException cause) {
+        long lastConfirmedId = insertedHistories.isEmpty() ? 0L : insertedHistories.get(insertedHistories.size() - 1).id();
+        StagedHistory staged = attempted.staged();
+        try {
+            return pointHistoryRepository.selectAllByUserId(staged.userId()).stream()
+                    .filter(row -> row.id() > lastConfirmedId
+                            && row.amount() == staged.amount()
+                            && row.type() == staged.type()
+                            && row.updateMillis() == attempted.updateMillis())
+                    .max(Comparator.comparingLong(PointHistory::id));
+        } catch (RuntimeException e) {
+            log.error("실패한 내역 등록이 반영되었는지 확인하지 못했습니다. userId={}, amount={}, type={}",
+                    staged.userId(), staged.amount(), staged.type(), e);
+            cause.addSuppressed(e);
+            return Optional.empty();
+        }
+    }
+
+    private void compensate(List<StagedBalance> attemptedBalances, List<PointHistory> insertedHistories, RuntimeException cause) {
+        // 잔액 복구: 실패한 쓰기가 실제로 반영되었는지 알 수 없으므로 시도한 모든 잔액을 이전 값으로 되돌립니다.
+        for (int i = attemptedBalances.size() - 1; i >= 0; i--) {
+            StagedBalance staged = attemptedBalances.get(i);
+            try {
+                userPointRepository.insertOrUpdate(staged.userId(), staged.beforePoint());
+            } catch (RuntimeException e) {
+                log.error("잔액 복구에 실패했습니다. userId={}, point={}", staged.userId(), staged.beforePoint(), e);
+                cause.addSuppressed(e);
+            }
+        }
+        // 내역 상쇄: 내역 테이블은 삭제를 지원하지 않으므로 반대 내역을 등록합니다.
+        for (int i = insertedHistories.size() - 1; i >= 0; i--) {
+            PointHistory inserted = insertedHistories.get(i);
+            if (inserted == null) {
+                continue;
+            }
+            try {
+                pointHistoryRepository.insert(inserted.userId(), inserted.amount(), inserted.type().reverse(), System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                log.error("내역 상쇄에 실패했습니다. historyId={}", inserted.id(), e);
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    private record StagedBalance(long userId, long beforePoint, long afterPoint) {
+    }
+
+    private record StagedHistory(long userId, long amount, TransactionType type) {
+    }
+
+    private record AttemptedHistory(StagedHistory staged, long updateMillis) {
+    }
+}
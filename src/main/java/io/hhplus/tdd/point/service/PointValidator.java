@@ -1,26 +1,46 @@
 package io.hhplus.tdd.point.service;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class PointValidator {
-    private final long MAX_POINT_AMOUNT = 1_000_000L;
+    private final PointPolicyEngine pointPolicyEngine;
 
-    public void validateForCharge(long existingPoint, long pointToCharge) {
-        if (pointToCharge <= 0) {
-            throw new IllegalArgumentException("충전할 금액은 0보다 커야 합니다.");
-        }
-        if (existingPoint + pointToCharge > MAX_POINT_AMOUNT) {
-            throw new IllegalArgumentException("충전 후 잔액은 100만을 넘을 수 없습니다.");
-        }
+    public void validateForCharge(long userId, long existingPoint, long pointToCharge) {
+        validateForCharge(userId, existingPoint, pointToCharge, 0L);
     }
 
-    public void validateForUse(long existingPoint, long pointToUse) {
-        if (pointToUse <= 0) {
-            throw new IllegalArgumentException("사용할 금액은 0보다 커야 합니다.");
-        }
-        if (existingPoint < pointToUse) {
-            throw new IllegalArgumentException("충전된 금액보다 큰 금액은 사용할 수 없습니다.");
+    /**
+     * 아직 누적되지 않은 충전 금액(pendingCharge)을 하루 충전 금액에 더해 검증합니다.
+     * 여러 충전 요청을 모아서 처리할 때 사용합니다.
+     */
+    public void validateForCharge(long userId, long existingPoint, long pointToCharge, long pendingCharge) {
+        pointPolicyEngine.policyOf(userId)
+                .validateForCharge(existingPoint, pointToCharge, pointPolicyEngine.chargedToday(userId) + pendingCharge);
+    }
+
+    public void validateForUse(long userId, long existingPoint, long pointToUse) {
+        pointPolicyEngine.policyOf(userId)
+                .validateForUse(existingPoint, pointToUse);
+    }
+
+    public void validateForTransfer(long senderId, long receiverId) {
+        if (senderId == receiverId) {
+            throw new IllegalArgumentException("자기 자신에게는 송금할 수 없습니다.");
         }
     }
+
+    public void validateForReceive(long userId, long existingPoint, long pointToReceive) {
+        pointPolicyEngine.policyOf(userId)
+                .validateForReceive(existingPoint, pointToReceive);
+    }
+
+    /**
+     * 하루 충전 한도 검증을 위해 충전 금액을 누적합니다.
+     */
+    public void recordCharge(long userId, long pointToCharge) {
+        pointPolicyEngine.recordCharge(userId, pointToCharge);
+    }
 }
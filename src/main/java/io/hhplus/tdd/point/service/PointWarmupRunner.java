@@ -0,0 +1,215 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointWarmupProperties;
+import io.hhplus.tdd.point.dto.PointChargeRequest;
+import io.hhplus.tdd.point.dto.PointTransferRequest;
+import io.hhplus.tdd.point.dto.PointUseRequest;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 애플리케이션 시작 시 요청을 받기 전에 워밍업을 수행합니다.
+ * - 지정된 사용자와 내역이 많은 사용자의 잔액과 내역을 미리 읽어 저장소에 보관해 둡니다.
+ * - 실제 PointService 로 워밍업 전용 사용자(음수 id)의 충전/사용/송금/조회를 반복해, 요청과 같은 호출 경로의 JIT 컴파일을 유도합니다.
+ * ApplicationRunner 가 모두 끝나야 요청을 받을 준비(readiness)가 된 것으로 보고되므로, 워밍업이 끝나기 전에는 트래픽이 유입되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointWarmupRunner implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(PointWarmupRunner.class);
+    private static final int WARMUP_USER_COUNT = 64;
+    private static final long WARMUP_AMOUNT = 10L;
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointService pointService;
+    private final PointWarmupProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!properties.enabled()) {
+            return;
+        }
+        long startedNanos = System.nanoTime();
+        long deadlineNanos = startedNanos + properties.timeout().toNanos();
+
+        int preloaded = preload(deadlineNanos);
+        long preloadedNanos = System.nanoTime();
+        int exercised = exerciseHotPaths(deadlineNanos);
+
+        log.info("워밍업을 완료했습니다. preloadedUsers={}, preload={}ms, iterations={}, jit={}ms",
+                preloaded,
+                TimeUnit.NANOSECONDS.toMillis(preloadedNanos - startedNanos),
+                exercised,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - preloadedNanos));
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        log.info("요청을 받을 준비가 되었습니다. timeToReady={}ms, jvmUptime={}ms",
+                event.getTimeTaken().toMillis(), ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    /**
+     * 미리 읽을 사용자의 잔액과 내역을 최대 parallelism 개의 스레드로 나누어 읽습니다.
+     */
+    int preload(long deadlineNanos) throws InterruptedException {
+        Set<Long> userIds = new LinkedHashSet<>();
+        if (properties.userIds() != null) {
+            userIds.addAll(properties.userIds());
+        }
+        userIds.addAll(findActiveUsers());
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Callable<Void>> tasks = new ArrayList<>(userIds.size());
+        for (long userId : userIds) {
+            tasks.add(() -> {
+                userPointRepository.selectById(userId);
+                pointHistoryRepository.selectAllByUserId(userId);
+                return null;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(properties.parallelism(), tasks.size()));
+        List<Future<Void>> results;
+        try {
+            long remainingNanos = Math.max(0L, deadlineNanos - System.nanoTime());
+            results = executor.invokeAll(tasks, remainingNanos, TimeUnit.NANOSECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        reportUnfinished("preload", results);
+        return userIds.size();
+    }
+
+    /**
+     * 가장 최근의 내역을 최대 scanLimit 개 읽어 내역이 많은 순서로 최대 topUsers 명의 사용자를 찾습니다.
+     */
+    private List<Long> findActiveUsers() {
+        if (properties.topUsers() <= 0) {
+            return List.of();
+        }
+        Map<Long, Long> counts = pointHistoryRepository.selectLatest(properties.scanLimit()).stream()
+                .collect(Collectors.groupingBy(PointHistory::userId, Collectors.counting()));
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(properties.topUsers())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 실제 PointService 로 워밍업 사용자(음수 id)의 충전/사용/송금/조회를 반복해, 요청과 같은 호출 경로와 타입 프로파일로 JIT 컴파일을 유도합니다.
+     * 송금은 되돌려 받고 충전한 만큼 다시 사용하므로, 끝까지 수행된 반복은 워밍업 사용자의 잔액을 0 으로 되돌리며 실제 사용자의 데이터는 변경하지 않습니다.
+     */
+    int exerciseHotPaths(long deadlineNanos) throws InterruptedException {
+        if (properties.iterations() <= 0) {
+            return 0;
+        }
+        AtomicLong completed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        int threadCount = Math.max(1, properties.parallelism());
+        int iterationsPerThread = Math.max(1, properties.iterations() / threadCount);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> workers = new ArrayList<>(threadCount);
+        try {
+            for (int t = 0; t < threadCount; t++) {
+                int offset = t;
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < iterationsPerThread && System.nanoTime() < deadlineNanos; i++) {
+                        long id = warmupUserId(offset + i);
+                        try {
+                            exerciseOnce(id, warmupUserId(offset + i + 1));
+                        } catch (IllegalArgumentException ignored) {
+                            // 정책 위반은 워밍업 결과에 영향을 주지 않습니다.
+                        } catch (RuntimeException e) {
+                            // 실패한 반복은 건너뛰고 계속 수행하며, 첫 실패만 원인과 함께 기록합니다.
+                            if (failed.getAndIncrement() == 0) {
+                                log.warn("워밍업 반복 중 오류가 발생했습니다. userId={}", id, e);
+                            }
+                        }
+                        completed.incrementAndGet();
+                    }
+                }));
+            }
+            executor.shutdown();
+            executor.awaitTermination(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        reportUnfinished("jit", workers);
+        if (failed.get() > 0) {
+            log.warn("워밍업 반복 중 일부가 실패했습니다. failed={}, completed={}", failed.get(), completed.get());
+        }
+        return (int) completed.get();
+    }
+
+    private void exerciseOnce(long id, long receiverId) {
+        pointService.charge(id, new PointChargeRequest(WARMUP_AMOUNT));
+        pointService.getPoint(id);
+        pointService.getHistories(id);
+        pointService.transfer(new PointTransferRequest(id, receiverId, WARMUP_AMOUNT));
+        pointService.transfer(new PointTransferRequest(receiverId, id, WARMUP_AMOUNT));
+        pointService.use(id, new PointUseRequest(WARMUP_AMOUNT));
+    }
+
+    /**
+     * 실제 사용자와 겹치지 않도록 워밍업에는 -1 부터 -WARMUP_USER_COUNT 까지의 id 를 사용합니다.
+     */
+    static long warmupUserId(int index) {
+        return -(index % WARMUP_USER_COUNT + 1L);
+    }
+
+    /**
+     * 실패하거나 제한 시간 안에 끝나지 않은 작업을 기록합니다.
+     */
+    private void reportUnfinished(String phase, List<? extends Future<?>> futures) throws InterruptedException {
+        int failed = 0;
+        int unfinished = 0;
+        for (Future<?> future : futures) {
+            if (!future.isDone() || future.isCancelled()) {
+                unfinished++;
+                continue;
+            }
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failed++ == 0) {
+                    log.warn("워밍업 작업이 실패했습니다. phase={}", phase, e.getCause());
+                }
+            }
+        }
+        if (failed > 0 || unfinished > 0) {
+            log.warn("워밍업 작업 중 일부를 완료하지 못했습니다. phase={}, tasks={}, failed={}, unfinished={}",
+                    phase, futures.size(), failed, unfinished);
+        }
+    }
+}
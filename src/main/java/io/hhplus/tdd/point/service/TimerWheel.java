@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이머 휠
+ * - 각 단계는 64칸으로 이루어지며, 단계가 올라갈수록 한 칸이 나타내는 시간이 64배씩 늘어납니다.
+ * - 등록은 만료 시점에 해당하는 칸에 넣기만 하므로 O(1) 이고, 항목마다 예약 작업을 만들지 않습니다.
+ * - 시간이 흘러 상위 단계의 칸에 도달하면 해당 칸의 항목을 하위 단계로 내려 보냅니다.
+ * 만료된 항목은 최대 한 칸(tick) 늦게 반환될 수 있습니다.
+ */
+public class TimerWheel<T> {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 6;
+
+    private final long tickMillis;
+    private final ArrayDeque<Entry<T>>[][] wheels;
+    private final ArrayDeque<T> ready = new ArrayDeque<>();
+    private long currentTick;
+    private int scheduledCount;
+
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tick 은 0보다 커야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.wheels = new ArrayDeque[LEVELS][WHEEL_SIZE];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                wheels[level][slot] = new ArrayDeque<>();
+            }
+        }
+    }
+
+    public synchronized void schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        scheduledCount++;
+        place(new Entry<>(item, deadlineTick));
+    }
+
+    /**
+     * nowMillis 까지 시간을 진행시키고, 만료된 항목을 최대 maxItems 개 반환합니다.
+     * 반환되지 않은 만료 항목은 다음 호출에서 먼저 반환됩니다.
+     */
+    public synchronized List<T> poll(long nowMillis, int maxItems) {
+        advance(nowMillis / tickMillis);
+
+        List<T> expired = new ArrayList<>(Math.min(maxItems, ready.size()));
+        while (expired.size() < maxItems && !ready.isEmpty()) {
+            expired.add(ready.poll());
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return scheduledCount + ready.size();
+    }
+
+    private void advance(long targetTick) {
+        if (scheduledCount == 0) {
+            currentTick = Math.max(currentTick, targetTick);
+            return;
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            // 하위 단계가 한 바퀴를 돌았다면, 상위 단계의 칸을 하위 단계로 내려 보냅니다.
+            for (int level = 1; level < LEVELS; level++) {
+                if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+                    break;
+                }
+                cascade(level, (int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK));
+            }
+            cascade(0, (int) (currentTick & WHEEL_MASK));
+        }
+    }
+
+    private void cascade(int level, int slot) {
+        ArrayDeque<Entry<T>> bucket = wheels[level][slot];
+        if (bucket.isEmpty()) {
+            return;
+        }
+        wheels[level][slot] = new ArrayDeque<>();
+        for (Entry<T> entry : bucket) {
+            place(entry);
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick() - currentTick;
+        if (delta <= 0) {
+            scheduledCount--;
+            ready.add(entry.item());
+            return;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((entry.deadlineTick() >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        wheels[level][slot].add(entry);
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
@@ -0,0 +1,191 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.config.PointBinaryProperties;
+import io.hhplus.tdd.point.controller.PointBinaryCodec.Request;
+import io.hhplus.tdd.point.controller.PointBinaryCodec.Response;
+import io.hhplus.tdd.point.dto.PointChargeRequest;
+import io.hhplus.tdd.point.dto.PointUseRequest;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PointBinaryServerTest {
+    private final PointService pointService = mock(PointService.class);
+    private final PointBinaryServer server = new PointBinaryServer(pointService, new PointBinaryProperties(true, "127.0.0.1", 0, 4, 16, 64));
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        server.stop();
+    }
+
+    /**
+     * Test Case: 응답을 기다리지 않고 연속해서 보낸 요청은, 보낸 순서대로 처리되고 응답되어야 합니다.
+     * 작성 이유
+     *  - 한 연결에서 보낸 충전 -> 사용 -> 내역 조회 요청의 처리 순서가 보장되는지 확인합니다.
+     *  - 버퍼보다 큰 응답과 버퍼에 맞는 응답이 섞여도 올바르게 전달되는지 확인합니다.
+     * */
+    @Test
+    void 연속해서_보낸_요청을_순서대로_처리하고_응답한다() throws IOException {
+        // given
+        long id = 1L;
+        long now = System.currentTimeMillis();
+        List<PointHistory> histories = List.of(
+                new PointHistory(1L, id, 100L, TransactionType.CHARGE, now),
+                new PointHistory(2L, id, 30L, TransactionType.USE, now)
+        );
+        when(pointService.charge(eq(id), any(PointChargeRequest.class)))
+                .thenReturn(new UserPoint(id, 100L, now));
+        when(pointService.use(eq(id), any(PointUseRequest.class)))
+                .thenReturn(new UserPoint(id, 70L, now));
+        when(pointService.getHistories(id))
+                .thenReturn(histories);
+
+        // when
+        List<Response> responses = send(List.of(
+                new Request(PointBinaryCodec.OP_CHARGE, 1L, id, 100L, 0L),
+                new Request(PointBinaryCodec.OP_USE, 2L, id, 30L, 0L),
+                new Request(PointBinaryCodec.OP_GET_HISTORIES, 3L, id, 0L, 0L)
+        ));
+
+        // then
+        assertThat(responses).extracting(Response::requestId).containsExactly(1L, 2L, 3L);
+        assertThat(responses).extracting(Response::status).containsOnly(PointBinaryCodec.STATUS_OK);
+        assertThat(PointBinaryCodec.readUserPoint(responses.get(0).body()).point()).isEqualTo(100L);
+        assertThat(PointBinaryCodec.readUserPoint(responses.get(1).body()).point()).isEqualTo(70L);
+        assertThat(PointBinaryCodec.readHistories(responses.get(2).body())).isEqualTo(histories);
+
+        InOrder inOrder = inOrder(pointService);
+        inOrder.verify(pointService).charge(eq(id), any(PointChargeRequest.class));
+        inOrder.verify(pointService).use(eq(id), any(PointUseRequest.class));
+        inOrder.verify(pointService).getHistories(id);
+    }
+
+    /**
+     * Test Case: 정책 위반으로 실패한 요청은 실패 응답을 받고, 같은 연결의 다음 요청은 계속 처리되어야 합니다.
+     * 작성 이유
+     *  - 요청 하나의 실패가 연결 전체에 영향을 주지 않는지 확인합니다.
+     * */
+    @Test
+    void 실패한_요청이_있어도_다음_요청을_계속_처리한다() throws IOException {
+        // given
+        long id = 1L;
+        when(pointService.use(eq(id), any(PointUseRequest.class)))
+                .thenThrow(new IllegalArgumentException("잔액이 부족합니다."));
+        when(pointService.getPoint(id))
+                .thenReturn(new UserPoint(id, 0L, System.currentTimeMillis()));
+
+        // when
+        List<Response> responses = send(List.of(
+                new Request(PointBinaryCodec.OP_USE, 1L, id, 100L, 0L),
+                new Request(PointBinaryCodec.OP_GET_POINT, 2L, id, 0L, 0L)
+        ));
+
+        // then
+        assertThat(responses.get(0).status()).isEqualTo(PointBinaryCodec.STATUS_REJECTED);
+        assertThat(PointBinaryCodec.readMessage(responses.get(0).body())).isEqualTo("잔액이 부족합니다.");
+        assertThat(responses.get(1).status()).isEqualTo(PointBinaryCodec.STATUS_OK);
+    }
+
+    /**
+     * Test Case: 실패한 요청이 반복되어도, 응답 버퍼는 풀에 반환되어 다시 사용되어야 합니다.
+     * 작성 이유
+     *  - 서비스가 예외를 던지는 경로에서 이미 가져온 direct 버퍼를 잃어버리지 않는지 확인합니다.
+     * */
+    @Test
+    void 실패한_요청의_응답_버퍼도_풀에_반환한다() throws IOException {
+        // given
+        long id = 1L;
+        int requestCount = 50;
+        when(pointService.use(eq(id), any(PointUseRequest.class)))
+                .thenThrow(new IllegalArgumentException("잔액이 부족합니다."));
+
+        // when
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", server.getPort()))) {
+            for (int i = 0; i < requestCount; i++) {
+                Response response = exchange(channel, new Request(PointBinaryCodec.OP_USE, i, id, 100L, 0L));
+                assertThat(response.status()).isEqualTo(PointBinaryCodec.STATUS_REJECTED);
+            }
+        }
+
+        // then
+        // 연결의 읽기 버퍼와 응답 버퍼 하나씩이면 충분하므로, 요청 수와 관계없이 몇 개만 할당해야 합니다.
+        assertThat(server.allocatedBufferCount()).isLessThan(5L);
+    }
+
+    /**
+     * Test Case: 바이너리 프로토콜은 지정한 주소(loopback)에서만 수신해야 합니다.
+     * 작성 이유
+     *  - 내부 서비스용 포트가 모든 인터페이스에 열리지 않는지 확인합니다.
+     * */
+    @Test
+    void 지정한_주소에서만_수신한다() throws IOException {
+        // when
+        InetSocketAddress address = server.getAddress();
+
+        // then
+        assertThat(address.getAddress().isLoopbackAddress()).isTrue();
+        assertThat(address.getAddress().isAnyLocalAddress()).isFalse();
+    }
+
+    private Response exchange(SocketChannel channel, Request request) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(PointBinaryCodec.REQUEST_SIZE);
+        PointBinaryCodec.encodeRequest(out, request);
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        ByteBuffer in = ByteBuffer.allocate(1024);
+        Response response = null;
+        while (response == null && channel.read(in) >= 0) {
+            in.flip();
+            response = PointBinaryCodec.decodeResponse(in);
+            in.compact();
+        }
+        return response;
+    }
+
+    private List<Response> send(List<Request> requests) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", server.getPort()))) {
+            ByteBuffer out = ByteBuffer.allocate(PointBinaryCodec.REQUEST_SIZE * requests.size());
+            requests.forEach(request -> PointBinaryCodec.encodeRequest(out, request));
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+
+            List<Response> responses = new ArrayList<>();
+            ByteBuffer in = ByteBuffer.allocate(64 * 1024);
+            while (responses.size() < requests.size() && channel.read(in) >= 0) {
+                in.flip();
+                Response response;
+                while ((response = PointBinaryCodec.decodeResponse(in)) != null) {
+                    responses.add(response);
+                }
+                in.compact();
+            }
+            return responses;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테이블 지연 없이 동작하는 테스트용 저장소입니다.
+ * failureRate 를 지정하면 해당 확률로 쓰기에 실패합니다.
+ */
+public class FakePointHistoryRepository implements PointHistoryRepository {
+    private final List<PointHistory> table = new CopyOnWriteArrayList<>();
+    private final AtomicLong cursor = new AtomicLong(1);
+    private volatile double failureRate;
+
+    public void setFailureRate(double failureRate) {
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType transactionType, long updateMillis) {
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new IllegalStateException("내역 쓰기 장애 주입");
+        }
+        PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, transactionType, updateMillis);
+        table.add(pointHistory);
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+    }
+
+    @Override
+    public List<PointHistory> selectAllAfter(long id, int limit) {
+        return table.stream()
+                .filter(pointHistory -> pointHistory.id() > id)
+                .sorted(Comparator.comparingLong(PointHistory::id))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<PointHistory> selectLatest(int limit) {
+        List<PointHistory> rows = table.stream()
+                .sorted(Comparator.comparingLong(PointHistory::id))
+                .toList();
+        return rows.subList(Math.max(0, rows.size() - limit), rows.size());
+    }
+
+    /**
+     * 내역으로 계산한 사용자의 잔액 (충전 합계 - 사용 합계 - 만료 합계)
+     */
+    public long sumByUserId(long userId) {
+        return selectAllByUserId(userId).stream()
+                .mapToLong(PointHistory::signedAmount)
+                .sum();
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.entity.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 테이블 지연 없이 동작하는 테스트용 저장소입니다.
+ * failureRate 를 지정하면 해당 확률로 쓰기에 실패합니다.
+ */
+public class FakeUserPointRepository implements UserPointRepository {
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+    private volatile double failureRate;
+
+    public void setFailureRate(double failureRate) {
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new IllegalStateException("포인트 쓰기 장애 주입");
+        }
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointHistoryLocalRepositoryTest {
+    private final PointHistoryLocalRepository repository = new PointHistoryLocalRepository(new PointHistoryTable(), 100);
+
+    /**
+     * Test Case: id 순서 조회용으로 보관 중인 내역은, 모든 consumer 가 지나간 내역만 정리되어야 합니다.
+     * 작성 이유
+     *  - feed 가 끝없이 늘어나지 않으면서도, 아직 읽지 않은 consumer 의 내역은 정리하지 않는지 확인합니다.
+     *  - 정리된 자리를 등록 중인 빈자리로 보고 기다리지 않는지 확인합니다.
+     * */
+    @Test
+    void 모든_consumer_가_지나간_내역만_정리한다() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            repository.insert(1L, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+        repository.acknowledge("reconciliation", 0L);
+        repository.acknowledge("export", 3L);
+        assertThat(repository.feedSize()).isEqualTo(5);
+
+        // when
+        repository.acknowledge("reconciliation", 2L);
+
+        // then
+        assertThat(repository.feedSize()).isEqualTo(3);
+        assertThat(repository.selectAllAfter(0L, 10)).extracting(PointHistory::id).containsExactly(3L, 4L, 5L);
+        assertThat(repository.selectAllByUserId(1L)).hasSize(5);
+    }
+}
@@ -0,0 +1,167 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.config.PointHistoryStorageProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointHistoryTieredRepositoryTest {
+    private static final int BLOCK_SIZE = 8;
+    private static final Duration HOT_AGE = Duration.ofMinutes(1);
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-01-01T10:00:00Z"), ZoneOffset.UTC);
+    private final long agedMillis = clock.millis() - HOT_AGE.toMillis() * 10;
+    private final PointHistoryTieredRepository repository = repository(100_000, BLOCK_SIZE);
+
+    /**
+     * Test Case: 오래된 내역이 압축된 후에도, 사용자의 내역은 등록된 순서 그대로 조회되어야 합니다.
+     * 작성 이유
+     *  - 여러 사용자의 내역이 섞인 압축 블록과 최근 내역이 빠짐없이 id 순서로 합쳐지는지 확인합니다.
+     *  - 금액, 트랜잭션 종류, 시간이 압축 전과 동일하게 복원되는지 확인합니다.
+     * */
+    @Test
+    void 압축된_내역과_최근_내역을_합쳐서_조회한다() {
+        // given
+        long userId = 1L;
+        List<PointHistory> inserted = new ArrayList<>();
+        long updateMillis = agedMillis;
+        TransactionType[] types = TransactionType.values();
+        for (int i = 0; i < 30; i++) {
+            // 앞의 24개씩은 오래된 내역, 나머지는 최근 내역
+            updateMillis = i < 24 ? updateMillis + (i % 3 == 0 ? -5 : 1_000) : clock.millis();
+            inserted.add(repository.insert(userId, i == 0 ? Long.MAX_VALUE : i * 1_000L, types[i % types.length], updateMillis));
+            repository.insert(2L, 100L, TransactionType.CHARGE, updateMillis);
+        }
+
+        // when
+        repository.compact();
+
+        // then
+        assertThat(repository.compactedRowCount()).isEqualTo(2L * 24);
+        assertThat(repository.hotRowCount()).isEqualTo(2 * 6);
+        assertThat(repository.selectAllByUserId(userId)).containsExactlyElementsOf(inserted);
+    }
+
+    /**
+     * Test Case: 특정 id 이후의 내역은 사용자와 관계없이 id 순서로 조회되어야 합니다.
+     * 작성 이유
+     *  - 정합성 검증, 내보내기에서 사용하는 조회가 압축 블록과 최근 내역에 걸쳐 동일한 결과를 반환하는지 확인합니다.
+     * */
+    @Test
+    void 특정_id_이후의_내역을_id_순서로_조회한다() {
+        // given
+        for (int i = 0; i < 50; i++) {
+            repository.insert(i % 3, 10L, TransactionType.CHARGE, i < 40 ? agedMillis : clock.millis());
+        }
+        repository.compact();
+
+        // when
+        List<PointHistory> rows = repository.selectAllAfter(30L, 15);
+
+        // then
+        assertThat(rows).extracting(PointHistory::id)
+                .containsExactlyElementsOf(LongStream.rangeClosed(31, 45).boxed().toList());
+    }
+
+    /**
+     * Test Case: 가장 최근의 내역은 압축 여부와 관계없이 id 순서로 조회되어야 합니다.
+     * 작성 이유
+     *  - 워밍업에서 내역이 많은 사용자를 찾을 때, 오래된 내역이 아닌 최근 내역을 읽는지 확인합니다.
+     * */
+    @Test
+    void 가장_최근의_내역을_id_순서로_조회한다() {
+        // given
+        for (int i = 0; i < 50; i++) {
+            repository.insert(i % 3, 10L, TransactionType.CHARGE, i < 40 ? agedMillis : clock.millis());
+        }
+        repository.compact();
+
+        // when
+        List<PointHistory> rows = repository.selectLatest(15);
+
+        // then
+        assertThat(rows).extracting(PointHistory::id)
+                .containsExactlyElementsOf(LongStream.rangeClosed(36, 50).boxed().toList());
+    }
+
+    /**
+     * Test Case: 최근 내역이 최대 개수를 넘으면, 기간과 관계없이 오래된 내역부터 압축되어야 합니다.
+     * 작성 이유
+     *  - 짧은 시간에 요청이 몰려도 압축하지 않은 내역이 끝없이 늘어나지 않는지 확인합니다.
+     * */
+    @Test
+    void 최근_내역이_최대_개수를_넘으면_오래된_내역부터_압축한다() {
+        // given
+        PointHistoryTieredRepository bounded = repository(10, BLOCK_SIZE);
+        for (int i = 0; i < 35; i++) {
+            bounded.insert(i % 5, 10L, TransactionType.CHARGE, clock.millis());
+        }
+
+        // when
+        bounded.compact();
+
+        // then
+        assertThat(bounded.hotRowCount()).isEqualTo(10);
+        assertThat(bounded.compactedRowCount()).isEqualTo(25L);
+        assertThat(bounded.selectAllAfter(0L, 100)).hasSize(35);
+    }
+
+    /**
+     * Test Case: 내역이 적은 사용자가 대부분인 경우에도, 압축된 내역은 객체로 보관할 때보다 적은 메모리를 사용해야 합니다.
+     * 작성 이유
+     *  - 압축 블록뿐 아니라 사용자별 색인 객체, map 항목, DirectByteBuffer 등 객체 overhead 를 포함한 크기로 확인합니다.
+     *  - 객체로 보관할 때(PointHistory 48바이트 + 목록/색인 항목으로 내역 하나당 약 100바이트)의 절반 이하인지 확인합니다.
+     *    (이 분포에서는 사용자당 약 130바이트의 overhead 가 내역 크기보다 커서, 내역당 약 36바이트입니다.)
+     *  - 블록 안의 위치 색인으로 복원한 내역이 모든 사용자에 대해 등록한 내역과 같은지 확인합니다.
+     * */
+    @Test
+    void 내역이_적은_사용자가_많아도_압축된_내역은_객체보다_적은_메모리를_사용한다() {
+        // given
+        PointHistoryTieredRepository realistic = repository(100_000, 256);
+        Random random = new Random(42);
+        Map<Long, List<PointHistory>> insertedByUser = new HashMap<>();
+        int userCount = 20_000;
+        int rowCount = 100_000;
+        long updateMillis = agedMillis - rowCount * 37L;
+        for (int i = 0; i < rowCount; i++) {
+            // 소수의 사용자에게 요청이 몰리고, 대부분의 사용자는 내역이 몇 개뿐인 분포
+            long userId = 1 + (long) (userCount * Math.pow(random.nextDouble(), 3));
+            updateMillis += random.nextInt(75);
+            TransactionType type = random.nextInt(4) == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            PointHistory inserted = realistic.insert(userId, 100L * (1 + random.nextInt(1_000)), type, updateMillis);
+            insertedByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(inserted);
+        }
+
+        // when
+        realistic.compact();
+
+        // then
+        assertThat(realistic.hotRowCount()).isZero();
+        assertThat(realistic.compactedRowCount()).isEqualTo(rowCount);
+        double bytesPerRow = (double) realistic.compactedRetainedSizeInBytes() / rowCount;
+        assertThat(bytesPerRow).isLessThan(50.0);
+
+        insertedByUser.forEach((userId, inserted) ->
+                assertThat(realistic.selectAllByUserId(userId)).containsExactlyElementsOf(inserted));
+    }
+
+    private PointHistoryTieredRepository repository(int maxHotRows, int blockSize) {
+        return new PointHistoryTieredRepository(
+                new PointHistoryStorageProperties("tiered", HOT_AGE, maxHotRows, blockSize, Duration.ofSeconds(1)),
+                clock
+        );
+    }
+}
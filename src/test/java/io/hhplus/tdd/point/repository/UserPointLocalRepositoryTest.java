@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointCacheProperties;
+import io.hhplus.tdd.point.config.PointLockProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserPointLocalRepositoryTest {
+    private final UserPointTable userPointTable = new UserPointTable();
+
+    /**
+     * Test Case: 여러 인스턴스가 함께 변경하는 배포에서는, 다른 인스턴스가 변경한 잔액을 바로 조회해야 합니다.
+     * 작성 이유
+     *  - distributed 잠금을 사용하면 잔액을 보관하지 않아, 분산 잠금을 잡고 읽은 잔액이 이전 값이 아닌지 확인합니다.
+     * */
+    @Test
+    void distributed_잠금에서는_다른_인스턴스가_변경한_잔액을_조회한다() {
+        // given
+        PointLockProperties distributed = new PointLockProperties(
+                "distributed", "memory", Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofMillis(10), "redis://localhost:6379", "point:lock:"
+        );
+        UserPointLocalRepository instanceA = new UserPointLocalRepository(userPointTable, new PointCacheProperties(100), distributed);
+        UserPointLocalRepository instanceB = new UserPointLocalRepository(userPointTable, new PointCacheProperties(100), distributed);
+        instanceA.selectById(1L);
+
+        // when
+        instanceB.insertOrUpdate(1L, 100L);
+
+        // then
+        assertThat(instanceA.selectById(1L).point()).isEqualTo(100L);
+        assertThat(instanceA.cachedUserCount()).isZero();
+    }
+
+    /**
+     * Test Case: 보관하는 사용자 수는 maxUsers 를 넘지 않고, 내보낸 사용자도 올바른 잔액을 조회해야 합니다.
+     * 작성 이유
+     *  - 사용자가 계속 늘어나도 보관한 잔액이 끝없이 늘어나지 않는지 확인합니다.
+     * */
+    @Test
+    void 보관하는_사용자_수는_최대_사용자_수를_넘지_않는다() {
+        // given
+        UserPointLocalRepository repository = new UserPointLocalRepository(userPointTable, 2);
+
+        // when
+        for (long id = 1; id <= 3; id++) {
+            repository.insertOrUpdate(id, id * 100L);
+        }
+
+        // then
+        assertThat(repository.cachedUserCount()).isEqualTo(2);
+        for (long id = 1; id <= 3; id++) {
+            assertThat(repository.selectById(id).point()).isEqualTo(id * 100L);
+        }
+        assertThat(repository.cachedUserCount()).isEqualTo(2);
+    }
+}
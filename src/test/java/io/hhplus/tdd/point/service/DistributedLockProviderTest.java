@@ -0,0 +1,316 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointLockProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import io.hhplus.tdd.point.repository.FakePointHistoryRepository;
+import io.hhplus.tdd.point.repository.FakeUserPointRepository;
+import io.hhplus.tdd.point.repository.InMemoryLockStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DistributedLockProviderTest {
+    private static final long USER_ID = 1L;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+    private final InMemoryLockStore lockStore = new InMemoryLockStore(clock);
+    private final PointLockProperties properties = new PointLockProperties(
+            "distributed", "memory", Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofMillis(1), "redis://localhost:6379", "point:lock:"
+    );
+    // 같은 저장소를 공유하는 두 인스턴스
+    private final DistributedLockProvider instanceA = new DistributedLockProvider(lockStore, properties);
+    private final DistributedLockProvider instanceB = new DistributedLockProvider(lockStore, properties);
+
+    /**
+     * Test Case: 두 인스턴스가 같은 사용자의 잠금을 동시에 요청하더라도, 한 번에 하나의 요청만 처리되어야 합니다.
+     * 작성 이유
+     *  - 인스턴스 내부 잠금만으로는 막을 수 없는 인스턴스 사이의 경쟁을 저장소 잠금이 막는지 확인합니다.
+     * */
+    @Test
+    void 여러_인스턴스에서_동시에_요청해도_한_번에_하나만_처리한다() throws InterruptedException {
+        // given
+        int threadCount = 16;
+        int incrementsPerThread = 200;
+        long[] counter = {0L};
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int t = 0; t < threadCount; t++) {
+            Lock lock = (t % 2 == 0 ? instanceA : instanceB).getLock(USER_ID);
+            executor.execute(() -> {
+                try {
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        lock.lock();
+                        try {
+                            counter[0]++;
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // then
+        assertThat(counter[0]).isEqualTo((long) threadCount * incrementsPerThread);
+    }
+
+    /**
+     * Test Case: 다른 인스턴스가 보유한 잠금은 획득할 수 없고, 해제된 뒤에는 더 큰 fencing token 으로 획득해야 합니다.
+     * 작성 이유
+     *  - fencing token 이 잠금을 획득할 때마다 증가하는지 확인합니다.
+     * */
+    @Test
+    void 잠금을_다시_획득하면_더_큰_fencing_token_을_발급한다() {
+        // given
+        FencedLock lockA = (FencedLock) instanceA.getLock(USER_ID);
+        FencedLock lockB = (FencedLock) instanceB.getLock(USER_ID);
+        lockA.lock();
+        long tokenA = lockA.fencingToken();
+
+        // when
+        boolean acquiredWhileHeld = lockB.tryLock();
+        lockA.unlock();
+        boolean acquiredAfterRelease = lockB.tryLock();
+
+        // then
+        assertThat(acquiredWhileHeld).isFalse();
+        assertThat(acquiredAfterRelease).isTrue();
+        assertThat(lockB.fencingToken()).isGreaterThan(tokenA);
+        lockB.unlock();
+    }
+
+    /**
+     * Test Case: 다른 인스턴스가 잠금을 계속 보유하면, 대기 시간이 지난 뒤 다시 시도할 수 있는 예외로 실패해야 합니다.
+     * 작성 이유
+     *  - 잠금 대기가 waitTimeout 안에 끝나고, 실패한 쪽은 저장소 잠금과 인스턴스 내부 잠금을 남기지 않는지 확인합니다.
+     * */
+    @Test
+    void 다른_인스턴스가_잠금을_보유하면_대기_시간이_지난_뒤_실패한다() {
+        // given
+        LockManager lockManagerB = new LockManager(instanceB, Duration.ofMillis(50));
+        Lock lockA = instanceA.getLock(USER_ID);
+        Lock lockB = lockManagerB.getLock(USER_ID);
+        lockA.lock();
+
+        // when
+        long startedNanos = System.nanoTime();
+        assertThatThrownBy(() -> lockManagerB.acquire(USER_ID, lockB))
+                .isInstanceOf(PointLockTimeoutException.class);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedNanos).toMillis();
+
+        // then
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(50L).isLessThan(5_000L);
+        lockA.unlock();
+        assertThat(lockB.tryLock()).isTrue();
+        lockB.unlock();
+    }
+
+    /**
+     * Test Case: Lock.lock() 으로 직접 기다리더라도, 대기 시간이 지나면 다시 시도할 수 있는 예외로 실패해야 합니다.
+     * 작성 이유
+     *  - LockManager 를 거치지 않는 호출자도 잠금 대기 시간 초과를 500 에러가 아닌 PointLockTimeoutException 으로 받는지 확인합니다.
+     * */
+    @Test
+    void 직접_lock_을_호출해도_대기_시간이_지나면_다시_시도할_수_있는_예외로_실패한다() {
+        // given
+        PointLockProperties shortWait = new PointLockProperties(
+                "distributed", "memory", Duration.ofSeconds(5), Duration.ofMillis(50), Duration.ofMillis(1), "redis://localhost:6379", "point:lock:"
+        );
+        Lock lockA = instanceA.getLock(USER_ID);
+        Lock lockB = new DistributedLockProvider(lockStore, shortWait).getLock(USER_ID);
+        lockA.lock();
+
+        // when & then
+        assertThatThrownBy(lockB::lock)
+                .isInstanceOf(PointLockTimeoutException.class);
+        assertThatThrownBy(lockB::lockInterruptibly)
+                .isInstanceOf(PointLockTimeoutException.class);
+        lockA.unlock();
+        assertThat(lockB.tryLock()).isTrue();
+        lockB.unlock();
+    }
+
+    /**
+     * Test Case: 분산 잠금은 Condition 을 제공하지 않아야 합니다.
+     * 작성 이유
+     *  - LockProvider 에 명시한 대로, 인스턴스 내부에서만 동작하는 Condition 을 반환하지 않고 UnsupportedOperationException 을 던지는지 확인합니다.
+     * */
+    @Test
+    void 분산_잠금은_Condition_을_지원하지_않는다() {
+        // given
+        Lock lock = instanceA.getLock(USER_ID);
+
+        // when & then
+        assertThatThrownBy(lock::newCondition)
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    /**
+     * Test Case: lease 가 만료되어 다른 인스턴스가 잠금을 가져간 뒤에는, 이전 보유자의 쓰기는 반영되지 않아야 합니다.
+     * 작성 이유
+     *  - 멈췄던 인스턴스가 만료된 잠금으로 잔액을 덮어쓰지 못하도록 commit 전에 fencing token 을 확인하는지 확인합니다.
+     * */
+    @Test
+    void lease_가_만료된_보유자의_쓰기는_반영하지_않는다() {
+        // given
+        FakeUserPointRepository userPointRepository = new FakeUserPointRepository();
+        FakePointHistoryRepository pointHistoryRepository = new FakePointHistoryRepository();
+        UserPoint before = userPointRepository.insertOrUpdate(USER_ID, 100L);
+
+        Lock staleLock = instanceA.getLock(USER_ID);
+        staleLock.lock();
+        clock.advance(properties.leaseTime().plusMillis(1));
+
+        FencedLock currentLock = (FencedLock) instanceB.getLock(USER_ID);
+        assertThat(currentLock.tryLock()).isTrue();
+
+        PointUnitOfWork staleUnitOfWork = new PointUnitOfWork(userPointRepository, pointHistoryRepository)
+                .fencedBy(staleLock)
+                .stageBalance(before, 200L)
+                .stageHistory(USER_ID, 100L, TransactionType.CHARGE);
+
+        // when
+        assertThatThrownBy(staleUnitOfWork::commit)
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(userPointRepository.selectById(USER_ID).point()).isEqualTo(100L);
+        assertThat(pointHistoryRepository.selectAllByUserId(USER_ID)).isEmpty();
+        assertThatCode(currentLock::checkFencingToken).doesNotThrowAnyException();
+
+        staleLock.unlock();
+        currentLock.unlock();
+    }
+
+    /**
+     * Test Case: 쓰기마다 lease 를 연장하므로, 전체 commit 이 lease 보다 길어도 쓰기 하나가 lease 보다 짧다면 모두 반영되어야 합니다.
+     * 작성 이유
+     *  - 요청을 모아서 처리하는 경우처럼 내역 쓰기가 많은 commit 도중에 다른 인스턴스가 잠금을 가져가지 않는지 확인합니다.
+     * */
+    @Test
+    void 쓰기마다_lease_를_연장해_lease_보다_긴_commit_도_반영한다() {
+        // given
+        FakeUserPointRepository userPointRepository = new FakeUserPointRepository();
+        FakePointHistoryRepository slowHistoryRepository = new FakePointHistoryRepository() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType transactionType, long updateMillis) {
+                // 쓰기 하나에 lease 의 절반 이상이 걸리는 상황
+                clock.advance(properties.leaseTime().multipliedBy(3).dividedBy(5));
+                return super.insert(userId, amount, transactionType, updateMillis);
+            }
+        };
+        UserPoint before = userPointRepository.insertOrUpdate(USER_ID, 0L);
+
+        Lock lockA = instanceA.getLock(USER_ID);
+        lockA.lock();
+        PointUnitOfWork unitOfWork = new PointUnitOfWork(userPointRepository, slowHistoryRepository)
+                .fencedBy(lockA)
+                .stageBalance(before, 300L);
+        for (int i = 0; i < 3; i++) {
+            unitOfWork.stageHistory(USER_ID, 100L, TransactionType.CHARGE);
+        }
+
+        // when
+        unitOfWork.commit();
+
+        // then
+        assertThat(userPointRepository.selectById(USER_ID).point()).isEqualTo(300L);
+        assertThat(slowHistoryRepository.sumByUserId(USER_ID)).isEqualTo(300L);
+        assertThat(instanceB.getLock(USER_ID).tryLock()).isFalse();
+        lockA.unlock();
+    }
+
+    /**
+     * Test Case: commit 도중 lease 를 잃으면, 남은 쓰기와 되돌리는 쓰기 모두 반영하지 않아야 합니다.
+     * 작성 이유
+     *  - 새 보유자가 잠금을 가져간 뒤에는 이전 보유자의 쓰기가 잔액을 덮어쓰지 않는지 확인합니다.
+     * */
+    @Test
+    void commit_도중_lease_를_잃으면_남은_쓰기를_반영하지_않는다() {
+        // given
+        FakeUserPointRepository userPointRepository = new FakeUserPointRepository();
+        FencedLock currentLock = (FencedLock) instanceB.getLock(USER_ID);
+        boolean[] taken = {false};
+        FakePointHistoryRepository stallingHistoryRepository = new FakePointHistoryRepository() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType transactionType, long updateMillis) {
+                PointHistory inserted = super.insert(userId, amount, transactionType, updateMillis);
+                // 첫 쓰기 직후 lease 보다 오래 멈추고, 그 사이 다른 인스턴스가 잠금을 획득
+                if (!taken[0]) {
+                    clock.advance(properties.leaseTime().plusMillis(1));
+                    taken[0] = currentLock.tryLock();
+                }
+                return inserted;
+            }
+        };
+        UserPoint before = userPointRepository.insertOrUpdate(USER_ID, 100L);
+
+        Lock staleLock = instanceA.getLock(USER_ID);
+        staleLock.lock();
+        PointUnitOfWork staleUnitOfWork = new PointUnitOfWork(userPointRepository, stallingHistoryRepository)
+                .fencedBy(staleLock)
+                .stageBalance(before, 200L)
+                .stageHistory(USER_ID, 50L, TransactionType.CHARGE)
+                .stageHistory(USER_ID, 50L, TransactionType.CHARGE);
+
+        // when
+        assertThatThrownBy(staleUnitOfWork::commit)
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(taken[0]).isTrue();
+        assertThat(userPointRepository.selectById(USER_ID).point()).isEqualTo(200L);
+        assertThat(stallingHistoryRepository.selectAllByUserId(USER_ID)).hasSize(1);
+        assertThatCode(currentLock::checkFencingToken).doesNotThrowAnyException();
+
+        staleLock.unlock();
+        currentLock.unlock();
+    }
+
+    private static class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointHotUserProperties;
+import io.hhplus.tdd.point.dto.PointHotUser;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotUserDetectorTest {
+    private static final long HOT_USER_ID = 1L;
+
+    private final PointHotUserProperties properties = new PointHotUserProperties(8, 1.0, 0.2, 20, Duration.ofSeconds(10), 64, Duration.ofMillis(500), Duration.ofMillis(100));
+
+    /**
+     * Test Case: 쓰기 요청의 대부분을 차지하는 사용자는 hot user 로 감지되어야 합니다.
+     * 작성 이유
+     *  - 추적하는 사용자 수(capacity)보다 많은 사용자가 요청하더라도, 요청이 몰리는 사용자를 놓치지 않는지 확인합니다.
+     * */
+    @Test
+    void 요청이_몰리는_사용자를_감지한다() {
+        // given
+        HotUserDetector hotUserDetector = new HotUserDetector(properties);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            hotUserDetector.record(HOT_USER_ID);
+            hotUserDetector.record(100L + i);
+        }
+
+        // then
+        List<PointHotUser> hotUsers = hotUserDetector.getHotUsers();
+        assertThat(hotUsers).extracting(PointHotUser::userId).containsExactly(HOT_USER_ID);
+        assertThat(hotUserDetector.record(HOT_USER_ID)).isTrue();
+    }
+
+    /**
+     * Test Case: 요청이 고르게 분산된 경우에는 hot user 가 감지되지 않아야 합니다.
+     * 작성 이유
+     *  - 대체된 사용자의 요청 수를 물려받은 사용자가 hot user 로 잘못 판단되지 않는지 확인합니다.
+     * */
+    @Test
+    void 요청이_분산된_경우_hot_user_가_없다() {
+        // given
+        HotUserDetector hotUserDetector = new HotUserDetector(properties);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            hotUserDetector.record(i % 100);
+        }
+
+        // then
+        assertThat(hotUserDetector.getHotUsers()).isEmpty();
+    }
+
+    /**
+     * Test Case: 요청이 더 이상 몰리지 않으면, 시간이 지난 후 hot user 에서 해제되어야 합니다.
+     * 작성 이유
+     *  - window 마다 집계 값이 줄어들어, 과거의 요청 때문에 계속 hot user 로 판단되지 않는지 확인합니다.
+     * */
+    @Test
+    void 요청이_줄어들면_hot_user_에서_해제된다() {
+        // given
+        MutableClock clock = new MutableClock();
+        HotUserDetector hotUserDetector = new HotUserDetector(properties, clock);
+        for (int i = 0; i < 100; i++) {
+            hotUserDetector.record(HOT_USER_ID);
+        }
+        hotUserDetector.refresh();
+        assertThat(hotUserDetector.record(HOT_USER_ID)).isTrue();
+
+        // when
+        for (int window = 0; window < 10; window++) {
+            clock.advance(properties.window());
+            for (int i = 0; i < 100; i++) {
+                hotUserDetector.record(100L + i % 5);
+            }
+            hotUserDetector.refresh();
+        }
+
+        // then
+        assertThat(hotUserDetector.getHotUsers()).extracting(PointHotUser::userId).doesNotContain(HOT_USER_ID);
+    }
+
+    /**
+     * Test Case: 요청 경로에서는 표본만 기록하고, hot user 목록은 집계를 반영할 때 다시 계산되어야 합니다.
+     * 작성 이유
+     *  - 요청마다 전체 집계를 다시 계산하지 않고, 주기적인 집계(refresh) 후에 hot user 로 판단하는지 확인합니다.
+     * */
+    @Test
+    void 표본은_집계를_반영한_뒤에_hot_user_판단에_사용된다() {
+        // given
+        HotUserDetector hotUserDetector = new HotUserDetector(properties);
+        for (int i = 0; i < 100; i++) {
+            hotUserDetector.record(HOT_USER_ID);
+        }
+        assertThat(hotUserDetector.record(HOT_USER_ID)).isFalse();
+
+        // when
+        hotUserDetector.refresh();
+
+        // then
+        assertThat(hotUserDetector.record(HOT_USER_ID)).isTrue();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointExpirationProperties;
+import io.hhplus.tdd.point.config.PointHotUserProperties;
+import io.hhplus.tdd.point.config.PointPolicyProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import io.hhplus.tdd.point.repository.FakePointHistoryRepository;
+import io.hhplus.tdd.point.repository.FakeUserPointRepository;
+import io.hhplus.tdd.point.repository.PointLotLocalRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class PointCombinerTest {
+    private static final long HOT_USER_ID = 1L;
+
+    private final CountingUserPointRepository userPointRepository = new CountingUserPointRepository();
+    private final FakePointHistoryRepository pointHistoryRepository = new FakePointHistoryRepository();
+    private final LockManager lockManager = new LockManager();
+    private final PointValidator pointValidator = new PointValidator(
+            new PointPolicyEngine(new PointPolicyProperties("basic", null, null, null, Duration.ofSeconds(10)))
+    );
+    private final PointExpirationManager pointExpirationManager = new PointExpirationManager(
+            new PointLotLocalRepository(),
+            new PointExpirationProperties(Duration.ofDays(365), Duration.ofSeconds(1), 1000)
+    );
+    private final PointCombiner pointCombiner = new PointCombiner(
+            userPointRepository,
+            pointHistoryRepository,
+            pointValidator,
+            lockManager,
+            pointExpirationManager,
+            new PointHotUserProperties(64, 1.0, 0.05, 20, Duration.ofSeconds(10), 64, Duration.ofMillis(500), Duration.ofMillis(100))
+    );
+
+    /**
+     * Test Case: 대기 중인 요청은 한 번에 처리되어, 잔액은 한 번만 반영되고 내역은 요청마다 등록되어야 합니다.
+     * 작성 이유
+     *  - 정책을 위반한 요청만 실패하고, 나머지 요청은 함께 반영되는지 확인합니다.
+     * */
+    @Test
+    void 대기_중인_요청을_모아서_한_번에_반영한다() throws Exception {
+        // given
+        ReentrantLock lock = (ReentrantLock) lockManager.getLock(HOT_USER_ID);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<UserPoint>> charges = new ArrayList<>();
+
+        lock.lock();
+        try {
+            for (int i = 0; i < 3; i++) {
+                charges.add(executor.submit(() -> pointCombiner.charge(HOT_USER_ID, 100L)));
+            }
+            Future<UserPoint> overUse = executor.submit(() -> pointCombiner.use(HOT_USER_ID, 1_000L));
+            charges.add(overUse);
+            while (lock.getQueueLength() < 4) {
+                Thread.onSpinWait();
+            }
+        } finally {
+            // when
+            lock.unlock();
+        }
+
+        // then
+        for (int i = 0; i < 3; i++) {
+            charges.get(i).get();
+        }
+        assertThatThrownBy(() -> charges.get(3).get())
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        executor.shutdown();
+
+        assertThat(userPointRepository.selectById(HOT_USER_ID).point()).isEqualTo(300L);
+        assertThat(userPointRepository.writeCount()).isEqualTo(1);
+        assertThat(pointHistoryRepository.selectAllByUserId(HOT_USER_ID)).hasSize(3);
+    }
+
+    /**
+     * Test Case: 한 사용자에게 동시에 충전/사용 요청이 몰리더라도, 잔액은 성공한 요청의 합계 및 내역 합계와 일치해야 합니다.
+     * 작성 이유
+     *  - 요청을 모아서 처리하는 경로에서도 요청이 누락되거나 중복 반영되지 않는지 확인합니다.
+     *  - 잔액 쓰기 횟수가 요청 수보다 적어, 실제로 요청이 모아서 처리되는지 확인합니다.
+     * */
+    @Test
+    void 동시_요청이_몰려도_잔액과_내역_합계가_일치한다() {
+        // given
+        int threadCount = 16;
+        int requestsPerThread = 50;
+        AtomicLong expectedPoint = new AtomicLong();
+
+        // when
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+            for (int t = 0; t < threadCount; t++) {
+                boolean charge = t % 4 != 0;
+                executor.execute(() -> {
+                    try {
+                        for (int i = 0; i < requestsPerThread; i++) {
+                            try {
+                                if (charge) {
+                                    pointCombiner.charge(HOT_USER_ID, 10L);
+                                    expectedPoint.addAndGet(10L);
+                                } else {
+                                    pointCombiner.use(HOT_USER_ID, 10L);
+                                    expectedPoint.addAndGet(-10L);
+                                }
+                            } catch (IllegalArgumentException ignored) {
+                                // 잔액 부족은 허용합니다.
+                            }
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executor.shutdown();
+        });
+
+        // then
+        long point = userPointRepository.selectById(HOT_USER_ID).point();
+        assertThat(point).isEqualTo(expectedPoint.get());
+        assertThat(point).isEqualTo(pointHistoryRepository.sumByUserId(HOT_USER_ID));
+        assertThat(userPointRepository.writeCount()).isLessThan(threadCount * requestsPerThread);
+    }
+
+    /**
+     * Test Case: 잔액과 내역이 반영된 뒤 후속 처리에 실패하더라도, 요청은 성공으로 완료되어야 합니다.
+     * 작성 이유
+     *  - 실제로 반영된 충전이 호출자에게 실패로 전달되지 않는지 확인합니다.
+     * */
+    @Test
+    void 반영_후_후속_처리에_실패해도_요청은_성공한다() {
+        // given
+        PointExpirationManager failingExpirationManager = mock(PointExpirationManager.class);
+        doThrow(new IllegalStateException("만료 대상 등록 장애 주입"))
+                .when(failingExpirationManager).register(anyLong(), anyLong(), anyLong());
+        PointCombiner combiner = new PointCombiner(
+                userPointRepository,
+                pointHistoryRepository,
+                pointValidator,
+                lockManager,
+                failingExpirationManager,
+                new PointHotUserProperties(64, 1.0, 0.05, 20, Duration.ofSeconds(10), 64, Duration.ofMillis(500), Duration.ofMillis(100))
+        );
+
+        // when
+        UserPoint result = combiner.charge(HOT_USER_ID, 100L);
+
+        // then
+        assertThat(result.point()).isEqualTo(100L);
+        assertThat(userPointRepository.selectById(HOT_USER_ID).point()).isEqualTo(100L);
+        assertThat(pointHistoryRepository.selectAllByUserId(HOT_USER_ID)).hasSize(1);
+    }
+
+    /**
+     * Test Case: 내역 등록이 느리면, 예상 반영 시간이 combiningTimeBudget 을 넘지 않도록 묶음을 나누어 처리해야 합니다.
+     * 작성 이유
+     *  - 요청 개수만으로 묶음을 제한하면 느린 내역 등록이 쌓여 락을 오래 잡게 되므로, 측정한 반영 시간으로 묶음 크기를 줄이는지 확인합니다.
+     * */
+    @Test
+    void 반영_시간이_길면_묶음을_나누어_처리한다() throws Exception {
+        // given
+        FakePointHistoryRepository slowHistoryRepository = new FakePointHistoryRepository() {
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType transactionType, long updateMillis) {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.insert(userId, amount, transactionType, updateMillis);
+            }
+        };
+        PointCombiner combiner = new PointCombiner(
+                userPointRepository,
+                slowHistoryRepository,
+                pointValidator,
+                lockManager,
+                pointExpirationManager,
+                new PointHotUserProperties(64, 1.0, 0.05, 20, Duration.ofSeconds(10), 64, Duration.ofMillis(50), Duration.ofMillis(100))
+        );
+        // 첫 요청으로 요청당 반영 시간을 측정합니다.
+        combiner.charge(HOT_USER_ID, 100L);
+        int requestCount = 10;
+        ReentrantLock lock = (ReentrantLock) lockManager.getLock(HOT_USER_ID);
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        List<Future<UserPoint>> charges = new ArrayList<>();
+
+        lock.lock();
+        try {
+            for (int i = 0; i < requestCount; i++) {
+                charges.add(executor.submit(() -> combiner.charge(HOT_USER_ID, 100L)));
+            }
+            while (lock.getQueueLength() < requestCount) {
+                Thread.onSpinWait();
+            }
+        } finally {
+            // when
+            lock.unlock();
+        }
+
+        // then
+        for (Future<UserPoint> charge : charges) {
+            charge.get();
+        }
+        executor.shutdown();
+
+        assertThat(combiner.batchLimit()).isLessThanOrEqualTo(2);
+        assertThat(userPointRepository.selectById(HOT_USER_ID).point()).isEqualTo(100L * (requestCount + 1));
+        assertThat(slowHistoryRepository.selectAllByUserId(HOT_USER_ID)).hasSize(requestCount + 1);
+        // 첫 요청 1번 + 묶음당 최대 2개씩 나누어 반영
+        assertThat(userPointRepository.writeCount()).isGreaterThanOrEqualTo(1 + requestCount / 2);
+    }
+
+    /**
+     * 잔액 쓰기 횟수를 세고, 쓰기마다 테이블 지연을 흉내냅니다.
+     */
+    private static class CountingUserPointRepository extends FakeUserPointRepository {
+        private final AtomicInteger writeCount = new AtomicInteger();
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            writeCount.incrementAndGet();
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.insertOrUpdate(id, amount);
+        }
+
+        int writeCount() {
+            return writeCount.get();
+        }
+    }
+}
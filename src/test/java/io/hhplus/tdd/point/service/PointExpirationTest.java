@@ -0,0 +1,111 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointExpirationProperties;
+import io.hhplus.tdd.point.config.PointHotUserProperties;
+import io.hhplus.tdd.point.config.PointPolicyProperties;
+import io.hhplus.tdd.point.dto.PointChargeRequest;
+import io.hhplus.tdd.point.dto.PointUseRequest;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.PointLot;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import io.hhplus.tdd.point.repository.FakePointHistoryRepository;
+import io.hhplus.tdd.point.repository.FakeUserPointRepository;
+import io.hhplus.tdd.point.repository.PointLotLocalRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointExpirationTest {
+    private static final Duration PERIOD = Duration.ofMillis(100);
+
+    private final FakeUserPointRepository userPointRepository = new FakeUserPointRepository();
+    private final FakePointHistoryRepository pointHistoryRepository = new FakePointHistoryRepository();
+    private final PointLotLocalRepository pointLotRepository = new PointLotLocalRepository();
+    private final PointValidator pointValidator = new PointValidator(
+            new PointPolicyEngine(new PointPolicyProperties("basic", null, null, null, Duration.ofSeconds(10)))
+    );
+    private final PointExpirationManager pointExpirationManager = new PointExpirationManager(
+            pointLotRepository,
+            new PointExpirationProperties(PERIOD, Duration.ofMillis(10), 1000)
+    );
+    private final LockManager lockManager = new LockManager();
+    private final PointHotUserProperties hotUserProperties = new PointHotUserProperties(64, 0.0, 0.05, 20, Duration.ofSeconds(10), 64, Duration.ofMillis(500), Duration.ofMillis(100));
+    private final PointCombiner pointCombiner = new PointCombiner(userPointRepository, pointHistoryRepository, pointValidator, lockManager, pointExpirationManager, hotUserProperties);
+    private final PointService pointService = new PointService(userPointRepository, pointHistoryRepository, pointValidator, lockManager, pointExpirationManager, new HotUserDetector(hotUserProperties), pointCombiner);
+
+    /**
+     * Test Case: 포인트를 사용하면 먼저 충전된 묶음부터 차감되어야 합니다.
+     * 작성 이유
+     *  - 만료가 가까운 포인트가 먼저 사용되도록 FIFO 순서로 차감되는지 확인합니다.
+     * */
+    @Test
+    void 포인트_사용_시_먼저_충전된_묶음부터_차감된다() {
+        // given
+        long id = 1L;
+        pointService.charge(id, new PointChargeRequest(100L));
+        pointService.charge(id, new PointChargeRequest(50L));
+
+        // when
+        pointService.use(id, new PointUseRequest(120L));
+
+        // then
+        List<PointLot> lots = pointLotRepository.selectAllByUserId(id);
+        assertThat(lots).hasSize(1);
+        assertThat(lots.get(0).amount()).isEqualTo(50L);
+        assertThat(lots.get(0).remaining()).isEqualTo(30L);
+    }
+
+    /**
+     * Test Case: 만료 시점이 지난 묶음은 남은 포인트만큼 잔액에서 소멸되고, 만료 내역이 등록되어야 합니다.
+     * 작성 이유
+     *  - 일부 사용된 묶음은 남은 포인트만 소멸되는지, 소멸 후에도 잔액과 내역 합계가 일치하는지 확인합니다.
+     * */
+    @Test
+    void 만료된_묶음의_남은_포인트가_소멸되고_만료_내역이_등록된다() {
+        // given
+        long id = 1L;
+        pointService.charge(id, new PointChargeRequest(100L));
+        pointService.use(id, new PointUseRequest(40L));
+
+        // when
+        List<PointLot> expired = pointExpirationManager.pollExpired(System.currentTimeMillis() + PERIOD.toMillis() * 2, 1000);
+        boolean processed = pointService.expire(id, expired);
+
+        // then
+        assertThat(processed).isTrue();
+        assertThat(userPointRepository.selectById(id).point()).isZero();
+        assertThat(pointLotRepository.selectAllByUserId(id)).isEmpty();
+
+        List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(id);
+        PointHistory expireHistory = histories.get(histories.size() - 1);
+        assertThat(expireHistory.type()).isEqualTo(TransactionType.EXPIRE);
+        assertThat(expireHistory.amount()).isEqualTo(60L);
+        assertThat(pointHistoryRepository.sumByUserId(id)).isZero();
+    }
+
+    /**
+     * Test Case: 만료 시점 전에 모두 사용된 묶음은 만료 처리 시 아무것도 소멸시키지 않아야 합니다.
+     * 작성 이유
+     *  - 이미 사용된 포인트가 다시 차감되지 않는지 확인합니다.
+     * */
+    @Test
+    void 모두_사용된_묶음은_만료되어도_잔액이_변하지_않는다() {
+        // given
+        long id = 1L;
+        pointService.charge(id, new PointChargeRequest(100L));
+        pointService.use(id, new PointUseRequest(100L));
+
+        // when
+        List<PointLot> expired = pointExpirationManager.pollExpired(System.currentTimeMillis() + PERIOD.toMillis() * 2, 1000);
+        pointService.expire(id, expired);
+
+        // then
+        assertThat(userPointRepository.selectById(id).point()).isZero();
+        assertThat(pointHistoryRepository.selectAllByUserId(id))
+                .extracting("type")
+                .doesNotContain(TransactionType.EXPIRE);
+    }
+}
@@ -0,0 +1,155 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointExportProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import io.hhplus.tdd.point.repository.FakePointHistoryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointHistoryExporterTest {
+    @TempDir
+    Path directory;
+
+    private final FakePointHistoryRepository pointHistoryRepository = new FakePointHistoryRepository();
+
+    /**
+     * Test Case: 파일 크기를 넘을 때마다 새 파일로 교체되며, 모든 내역이 한 번씩 내보내져야 합니다.
+     * 작성 이유
+     *  - 파일을 교체하는 과정에서 내역이 중복되거나 누락되지 않는지 확인합니다.
+     * */
+    @Test
+    void 파일을_교체하면서_모든_내역을_한_번씩_내보낸다() throws IOException {
+        // given
+        insert(1_000);
+        PointHistoryExporter exporter = new PointHistoryExporter(pointHistoryRepository, properties(DataSize.ofBytes(4 * 1024)));
+
+        // when
+        int exported = exporter.export();
+        exporter.rotate();
+
+        // then
+        assertThat(exported).isEqualTo(1_000);
+        assertThat(completedFiles()).hasSizeGreaterThan(1);
+        assertThat(exportedIds()).containsExactlyElementsOf(ids(1, 1_000));
+    }
+
+    /**
+     * Test Case: 재시작하면 마지막으로 완료된 파일 이후의 내역부터 이어서 내보내야 합니다.
+     * 작성 이유
+     *  - 완료되지 않은 파일(.part)은 버리고, checkpoint 이후부터 다시 내보내 중복 없이 이어지는지 확인합니다.
+     * */
+    @Test
+    void 재시작하면_마지막으로_완료된_파일_이후부터_이어서_내보낸다() throws IOException {
+        // given
+        insert(100);
+        PointHistoryExporter exporter = new PointHistoryExporter(pointHistoryRepository, properties(DataSize.ofMegabytes(64)));
+        exporter.export();
+        exporter.rotate();
+
+        // 완료되지 않은 채로 종료됩니다.
+        insert(50);
+        exporter.export();
+
+        // when
+        insert(50);
+        PointHistoryExporter restarted = new PointHistoryExporter(pointHistoryRepository, properties(DataSize.ofMegabytes(64)));
+        int exported = restarted.export();
+        restarted.rotate();
+
+        // then
+        assertThat(exported).isEqualTo(100);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(Path::toString)).noneMatch(name -> name.endsWith(".part"));
+        }
+        assertThat(exportedIds()).containsExactlyElementsOf(ids(1, 200));
+    }
+
+    /**
+     * Test Case: 내보내는 도중 실패하면, 작성 중인 파일은 버리고 다음 주기에 checkpoint 부터 다시 내보내야 합니다.
+     * 작성 이유
+     *  - 실패한 파일(.part)이 남지 않고, 다시 내보낸 파일에 내역이 중복되거나 누락되지 않는지 확인합니다.
+     * */
+    @Test
+    void 내보내기에_실패하면_작성_중인_파일을_버리고_다시_내보낸다() throws IOException {
+        // given
+        boolean[] failing = {false};
+        FakePointHistoryRepository flakyRepository = new FakePointHistoryRepository() {
+            @Override
+            public List<PointHistory> selectAllAfter(long id, int limit) {
+                if (failing[0]) {
+                    throw new IllegalStateException("내역 조회 장애 주입");
+                }
+                return super.selectAllAfter(id, limit);
+            }
+        };
+        for (int i = 0; i < 100; i++) {
+            flakyRepository.insert(i % 10 + 1, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+        PointHistoryExporter exporter = new PointHistoryExporter(flakyRepository, properties(DataSize.ofMegabytes(64)));
+        exporter.export();
+
+        // when
+        failing[0] = true;
+        exporter.exportSafely();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(Path::toString)).noneMatch(name -> name.endsWith(".part"));
+        }
+        failing[0] = false;
+        exporter.exportSafely();
+        exporter.rotate();
+
+        // then
+        assertThat(exportedIds()).containsExactlyElementsOf(ids(1, 100));
+    }
+
+    private PointExportProperties properties(DataSize maxFileSize) {
+        return new PointExportProperties(true, directory.toString(), Duration.ofSeconds(1), 64, maxFileSize, Duration.ofHours(1));
+    }
+
+    private void insert(int count) {
+        for (int i = 0; i < count; i++) {
+            pointHistoryRepository.insert(i % 10 + 1, 100L, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+    }
+
+    private List<Path> completedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".csv.gz")).sorted().toList();
+        }
+    }
+
+    private List<Long> exportedIds() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        for (Path file : completedFiles()) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.US_ASCII))) {
+                reader.lines().skip(1).forEach(line -> ids.add(Long.parseLong(line.substring(0, line.indexOf(',')))));
+            }
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    private static List<Long> ids(long from, long to) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = from; id <= to; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,226 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointPolicyProperties;
+import io.hhplus.tdd.point.config.PointPolicyProperties.Tier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointPolicyEngineTest {
+    private static final long BASIC_USER_ID = 1L;
+    private static final long VIP_USER_ID = 2L;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+    private final PointPolicyEngine pointPolicyEngine = new PointPolicyEngine(properties(1_000_000L, 10_000_000L), clock);
+
+    @Nested
+    @DisplayName("등급별 정책")
+    class TierPolicyTest {
+        /**
+         * Test Case: 사용자의 등급에 따라 서로 다른 최대 잔액이 적용되어야 합니다.
+         * 작성 이유
+         *  - 등급이 지정된 사용자는 해당 등급의 정책으로, 나머지는 기본 등급의 정책으로 검증되는지 확인합니다.
+         * */
+        @Test
+        void 등급에_따라_다른_최대_잔액이_적용된다() {
+            // given
+            long existingPoint = 900_000L;
+            long pointToCharge = 200_000L;
+
+            // when & then
+            assertThatThrownBy(() -> pointPolicyEngine.policyOf(BASIC_USER_ID).validateForCharge(existingPoint, pointToCharge, 0L))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatCode(() -> pointPolicyEngine.policyOf(VIP_USER_ID).validateForCharge(existingPoint, pointToCharge, 0L))
+                    .doesNotThrowAnyException();
+        }
+
+        /**
+         * Test Case: 등급이 지정된 사용자가 많아도, 사용자마다 지정된 등급의 정책이 적용되어야 합니다.
+         * 작성 이유
+         *  - 불러올 때 정렬된 배열로 변환한 사용자별 등급이, 지정된 사용자와 지정되지 않은 사용자 모두에게 올바르게 적용되는지 확인합니다.
+         * */
+        @Test
+        void 등급이_지정된_사용자가_많아도_사용자별_정책을_찾는다() {
+            // given
+            Map<Long, String> userTiers = new HashMap<>();
+            for (long userId = 1_000L; userId > 0; userId -= 2) {
+                userTiers.put(userId, "vip");
+            }
+            PointPolicyEngine engine = new PointPolicyEngine(new PointPolicyProperties(
+                    "basic", properties(1_000_000L, 10_000_000L).tiers(), userTiers, null, Duration.ofSeconds(10)
+            ), clock);
+
+            // when & then
+            for (long userId = 0; userId <= 1_001L; userId++) {
+                String expectedTier = userTiers.getOrDefault(userId, "basic");
+                assertThat(engine.policyOf(userId).tier()).isEqualTo(expectedTier);
+            }
+        }
+
+        /**
+         * Test Case: 1회 충전 금액이 등급의 1회 최대 충전 금액을 초과하면 충전에 실패합니다.
+         * 작성 이유
+         *  - 1회 최대 충전 금액 정책을 만족하는지 확인합니다.
+         * */
+        @Test
+        void 최대_1회_충전_금액을_초과하면_충전에_실패한다() {
+            // given
+            long existingPoint = 0L;
+            long pointToCharge = 500_001L;
+
+            // when & then
+            assertThatThrownBy(() -> pointPolicyEngine.policyOf(BASIC_USER_ID).validateForCharge(existingPoint, pointToCharge, 0L))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        /**
+         * Test Case: 정책을 다시 불러오면, 이후 검증에는 새 정책이 적용되어야 합니다.
+         * 작성 이유
+         *  - 재시작 없이 정책을 교체할 수 있는지 확인합니다.
+         * */
+        @Test
+        void 정책을_다시_불러오면_새_정책이_적용된다() {
+            // given
+            long existingPoint = 1_000_000L;
+            long pointToCharge = 100L;
+
+            // when
+            pointPolicyEngine.reload(properties(2_000_000L, 10_000_000L));
+
+            // then
+            assertThatCode(() -> pointPolicyEngine.policyOf(BASIC_USER_ID).validateForCharge(existingPoint, pointToCharge, 0L))
+                    .doesNotThrowAnyException();
+        }
+
+        /**
+         * Test Case: 존재하지 않는 등급이 지정된 설정은 불러올 수 없고, 기존 정책이 유지되어야 합니다.
+         * 작성 이유
+         *  - 잘못된 설정으로 정책이 교체되지 않는지 확인합니다.
+         * */
+        @Test
+        void 잘못된_정책은_불러오지_않고_기존_정책을_유지한다() {
+            // given
+            PointPolicyProperties invalid = new PointPolicyProperties(
+                    "basic", Map.of(), Map.of(VIP_USER_ID, "unknown"), null, Duration.ofSeconds(10)
+            );
+
+            // when
+            assertThatThrownBy(() -> pointPolicyEngine.reload(invalid))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            // then
+            assertThat(pointPolicyEngine.policyOf(VIP_USER_ID).tier()).isEqualTo("vip");
+        }
+    }
+
+    @Nested
+    @DisplayName("하루 충전 한도")
+    class DailyChargeLimitTest {
+        /**
+         * Test Case: 하루 동안 누적된 충전 금액이 하루 충전 한도를 초과하면 충전에 실패합니다.
+         * 작성 이유
+         *  - 하루 충전 한도가 누적 값으로 검증되는지 확인합니다.
+         * */
+        @Test
+        void 하루_충전_한도를_초과하면_충전에_실패한다() {
+            // given
+            pointPolicyEngine.recordCharge(BASIC_USER_ID, 400_000L);
+            pointPolicyEngine.recordCharge(BASIC_USER_ID, 500_000L);
+            long chargedToday = pointPolicyEngine.chargedToday(BASIC_USER_ID);
+
+            // when & then
+            assertThat(chargedToday).isEqualTo(900_000L);
+            assertThatThrownBy(() -> pointPolicyEngine.policyOf(BASIC_USER_ID).validateForCharge(0L, 200_000L, chargedToday))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        /**
+         * Test Case: 날짜가 바뀌면 하루 충전 금액은 다시 0부터 누적되어야 합니다.
+         * 작성 이유
+         *  - 전날의 충전 금액이 다음 날의 한도에 영향을 주지 않는지 확인합니다.
+         * */
+        @Test
+        void 날짜가_바뀌면_하루_충전_금액이_초기화된다() {
+            // given
+            pointPolicyEngine.recordCharge(BASIC_USER_ID, 900_000L);
+
+            // when
+            clock.advance(Duration.ofDays(1));
+
+            // then
+            assertThat(pointPolicyEngine.chargedToday(BASIC_USER_ID)).isZero();
+        }
+
+        /**
+         * Test Case: 지난 날짜의 하루 충전 금액은 정리되고, 오늘 충전한 사용자의 금액은 유지되어야 합니다.
+         * 작성 이유
+         *  - 한 번이라도 충전한 사용자의 누적 값이 계속 남아 메모리가 늘어나지 않는지 확인합니다.
+         * */
+        @Test
+        void 지난_날짜의_하루_충전_금액을_정리한다() {
+            // given
+            pointPolicyEngine.recordCharge(BASIC_USER_ID, 900_000L);
+            clock.advance(Duration.ofDays(1));
+            pointPolicyEngine.recordCharge(VIP_USER_ID, 100_000L);
+
+            // when
+            pointPolicyEngine.pruneDailyCharges();
+
+            // then
+            assertThat(pointPolicyEngine.dailyChargeCount()).isEqualTo(1);
+            assertThat(pointPolicyEngine.chargedToday(VIP_USER_ID)).isEqualTo(100_000L);
+        }
+    }
+
+    private static PointPolicyProperties properties(long basicMaxBalance, long vipMaxBalance) {
+        return new PointPolicyProperties(
+                "basic",
+                Map.of(
+                        "basic", new Tier(basicMaxBalance, 500_000L, Long.MAX_VALUE, 1_000_000L),
+                        "vip", new Tier(vipMaxBalance, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE)
+                ),
+                Map.of(VIP_USER_ID, "vip"),
+                null,
+                Duration.ofSeconds(10)
+        );
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
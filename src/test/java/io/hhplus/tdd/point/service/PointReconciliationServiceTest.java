@@ -0,0 +1,162 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointReconciliationProperties;
+import io.hhplus.tdd.point.dto.PointDiscrepancy;
+import io.hhplus.tdd.point.dto.PointReconciliationReport;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import io.hhplus.tdd.point.repository.FakePointHistoryRepository;
+import io.hhplus.tdd.point.repository.FakeUserPointRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointReconciliationServiceTest {
+    private final FakeUserPointRepository userPointRepository = new FakeUserPointRepository();
+    private final FakePointHistoryRepository pointHistoryRepository = new FakePointHistoryRepository();
+    private final PointReconciliationService pointReconciliationService = new PointReconciliationService(
+            userPointRepository,
+            pointHistoryRepository,
+            new LockManager(),
+            new PointReconciliationProperties("0 0 * * * *", 2, 2, null, Duration.ofMinutes(1))
+    );
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Test Case: 잔액이 내역 합계와 일치하지 않는 사용자는 불일치로 보고되어야 합니다.
+     * 작성 이유
+     *  - 내역 없이 잔액만 변경된 사용자를 찾아내는지 확인합니다.
+     * */
+    @Test
+    void 잔액과_내역_합계가_다른_사용자를_보고한다() {
+        // given
+        record(1L, 100L, TransactionType.CHARGE, 100L);
+        record(2L, 100L, TransactionType.CHARGE, 100L);
+        record(2L, 30L, TransactionType.USE, 70L);
+        userPointRepository.insertOrUpdate(2L, 50L);
+
+        // when
+        PointReconciliationReport report = pointReconciliationService.reconcile();
+
+        // then
+        assertThat(report.scannedCount()).isEqualTo(3L);
+        assertThat(report.checkedUserCount()).isEqualTo(2L);
+        assertThat(report.discrepancies()).containsExactly(new PointDiscrepancy(2L, 50L, 70L));
+    }
+
+    /**
+     * Test Case: 두 번째 검증부터는 마지막 검증 이후에 등록된 내역만 읽어야 합니다.
+     * 작성 이유
+     *  - 이전 검증 결과(checkpoint)를 이어서 사용해, 매번 전체 내역을 읽지 않는지 확인합니다.
+     * */
+    @Test
+    void 마지막_검증_이후의_내역만_읽어_검증한다() {
+        // given
+        record(1L, 100L, TransactionType.CHARGE, 100L);
+        record(2L, 100L, TransactionType.CHARGE, 100L);
+        pointReconciliationService.reconcile();
+
+        record(1L, 40L, TransactionType.USE, 60L);
+
+        // when
+        PointReconciliationReport report = pointReconciliationService.reconcile();
+
+        // then
+        assertThat(report.checkpointId()).isEqualTo(3L);
+        assertThat(report.scannedCount()).isEqualTo(1L);
+        assertThat(report.checkedUserCount()).isEqualTo(1L);
+        assertThat(report.discrepancies()).isEmpty();
+    }
+
+    /**
+     * Test Case: snapshot 을 기록했다면, 재시작한 후에도 마지막 검증 이후의 내역만 읽어 검증해야 합니다.
+     * 작성 이유
+     *  - checkpoint 와 사용자별 합계가 재시작으로 사라져 전체 내역을 다시 읽거나, 이전 합계 없이 잘못 검증하지 않는지 확인합니다.
+     * */
+    @Test
+    void 재시작해도_snapshot_이후의_내역만_읽어_검증한다() {
+        // given
+        String snapshotLocation = directory.resolve("reconciliation").toString();
+        record(1L, 100L, TransactionType.CHARGE, 100L);
+        record(2L, 100L, TransactionType.CHARGE, 100L);
+        service(snapshotLocation).reconcile();
+
+        record(1L, 40L, TransactionType.USE, 60L);
+
+        // when
+        PointReconciliationReport report = service(snapshotLocation).reconcile();
+
+        // then
+        assertThat(report.checkpointId()).isEqualTo(3L);
+        assertThat(report.scannedCount()).isEqualTo(1L);
+        assertThat(report.discrepancies()).isEmpty();
+    }
+
+    /**
+     * Test Case: snapshot 의 checkpoint 내역이 저장소에 없다면, 처음부터 다시 검증해야 합니다.
+     * 작성 이유
+     *  - 저장소가 초기화된 경우 이전 합계를 이어서 사용해 잘못된 불일치를 보고하지 않는지 확인합니다.
+     * */
+    @Test
+    void 저장소가_초기화되면_snapshot_을_버리고_처음부터_검증한다() {
+        // given
+        String snapshotLocation = directory.resolve("reconciliation").toString();
+        record(1L, 100L, TransactionType.CHARGE, 100L);
+        service(snapshotLocation).reconcile();
+
+        FakeUserPointRepository resetUserPointRepository = new FakeUserPointRepository();
+        FakePointHistoryRepository resetHistoryRepository = new FakePointHistoryRepository();
+        resetUserPointRepository.insertOrUpdate(1L, 30L);
+        resetHistoryRepository.insert(1L, 30L, TransactionType.CHARGE, System.currentTimeMillis());
+
+        // when
+        PointReconciliationReport report = new PointReconciliationService(
+                resetUserPointRepository,
+                resetHistoryRepository,
+                new LockManager(),
+                new PointReconciliationProperties("0 0 * * * *", 2, 2, snapshotLocation, Duration.ofMinutes(1))
+        ).reconcile();
+
+        // then
+        assertThat(report.scannedCount()).isEqualTo(1L);
+        assertThat(report.discrepancies()).isEmpty();
+    }
+
+    /**
+     * Test Case: 요청으로 실행하는 검증은 manualInterval 안에 다시 실행되지 않아야 합니다.
+     * 작성 이유
+     *  - 인증 없이 호출할 수 있는 API 로 전체 내역을 읽는 검증을 반복해서 실행할 수 없는지 확인합니다.
+     *  - 요청이 제한되어도 주기적인 검증은 그대로 수행되는지 확인합니다.
+     * */
+    @Test
+    void 요청으로_실행하는_검증은_manualInterval_안에_다시_실행되지_않는다() {
+        // given
+        record(1L, 100L, TransactionType.CHARGE, 100L);
+        pointReconciliationService.reconcileOnRequest();
+
+        // when & then
+        assertThatThrownBy(pointReconciliationService::reconcileOnRequest)
+                .isInstanceOf(PointReconciliationThrottledException.class);
+        assertThat(pointReconciliationService.reconcile().checkpointId()).isEqualTo(1L);
+    }
+
+    private PointReconciliationService service(String snapshotLocation) {
+        return new PointReconciliationService(
+                userPointRepository,
+                pointHistoryRepository,
+                new LockManager(),
+                new PointReconciliationProperties("0 0 * * * *", 2, 2, snapshotLocation, Duration.ofMinutes(1))
+        );
+    }
+
+    private void record(long userId, long amount, TransactionType type, long afterPoint) {
+        userPointRepository.insertOrUpdate(userId, afterPoint);
+        pointHistoryRepository.insert(userId, amount, type, System.currentTimeMillis());
+    }
+}
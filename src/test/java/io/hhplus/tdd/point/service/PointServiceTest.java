@@ -4,6 +4,8 @@ import io.hhplus.tdd.point.entity.PointHistory;
 import io.hhplus.tdd.point.entity.type.TransactionType;
 import io.hhplus.tdd.point.entity.UserPoint;
 import io.hhplus.tdd.point.dto.PointChargeRequest;
+import io.hhplus.tdd.point.dto.PointTransferRequest;
+import io.hhplus.tdd.point.dto.PointTransferResponse;
 import io.hhplus.tdd.point.dto.PointUseRequest;
 import io.hhplus.tdd.point.repository.PointHistoryRepository;
 import io.hhplus.tdd.point.repository.UserPointRepository;
@@ -13,11 +15,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static org.assertj.core.api.Assertions.*;
@@ -33,8 +39,14 @@ class PointServiceTest {
     private PointHistoryRepository pointHistoryRepository;
     @Mock
     private PointValidator pointValidator;
+    @Spy
+    private LockManager lockManager = new LockManager();
     @Mock
-    private LockManager lockManager;
+    private PointExpirationManager pointExpirationManager;
+    @Mock
+    private HotUserDetector hotUserDetector;
+    @Mock
+    private PointCombiner pointCombiner;
 
     @Nested
     @DisplayName("포인트 조회")
@@ -233,7 +245,7 @@ class PointServiceTest {
                     .thenReturn(new ReentrantLock(true));
             doThrow(new IllegalArgumentException("Validation Fail"))
                     .when(pointValidator)
-                    .validateForCharge(anyLong(), anyLong());
+                    .validateForCharge(anyLong(), anyLong(), anyLong());
 
             // when
             assertThatThrownBy(() -> pointService.charge(id, new PointChargeRequest(pointToCharge)))
@@ -243,6 +255,66 @@ class PointServiceTest {
             verify(userPointRepository, never())
                     .insertOrUpdate(anyLong(), anyLong());
         }
+
+        /**
+         * Test Case: 사용자 잠금을 대기 시간 안에 획득하지 못하면, 다시 시도할 수 있는 예외로 충전에 실패합니다.
+         * 작성 이유
+         *  - 잠금 대기 시간 초과가 500 에러가 아닌 PointLockTimeoutException 으로 전달되는지 검증합니다.
+         *  - 잠금을 획득하지 못한 요청은 잔액을 읽거나 쓰지 않고, 획득하지 않은 잠금을 해제하지 않는지 검증합니다.
+         * */
+        @Test
+        void 잠금_대기_시간이_지나면_다시_시도할_수_있는_예외로_충전에_실패한다() throws InterruptedException {
+            // given
+            long id = 1L;
+            Lock busyLock = mock(Lock.class);
+            // 대기 시간은 분산 잠금에만 적용되므로, 대기 시간을 지정한 LockManager 를 사용합니다.
+            PointService boundedPointService = new PointService(
+                    userPointRepository,
+                    pointHistoryRepository,
+                    pointValidator,
+                    new LockManager(userId -> busyLock, Duration.ofMillis(10)),
+                    pointExpirationManager,
+                    hotUserDetector,
+                    pointCombiner
+            );
+
+            when(busyLock.tryLock(anyLong(), any(TimeUnit.class)))
+                    .thenReturn(false);
+
+            // when
+            assertThatThrownBy(() -> boundedPointService.charge(id, new PointChargeRequest(100L)))
+                    .isInstanceOf(PointLockTimeoutException.class);
+
+            // then
+            verify(userPointRepository, never()).selectById(anyLong());
+            verify(userPointRepository, never()).insertOrUpdate(anyLong(), anyLong());
+            verify(busyLock, never()).unlock();
+        }
+
+        /**
+         * Test Case: 요청이 몰리는 사용자의 충전 요청은 모아서 처리하는 경로로 위임되어야 합니다.
+         * 작성 이유
+         *  - hot user 로 감지된 경우 사용자 락을 직접 잡지 않고 PointCombiner 로 처리하는지 검증합니다.
+         * */
+        @Test
+        void 요청이_몰리는_사용자의_충전은_모아서_처리한다() {
+            // given
+            long id = 1L;
+            long pointToCharge = 100L;
+            UserPoint expected = new UserPoint(id, pointToCharge, System.currentTimeMillis());
+
+            when(hotUserDetector.record(id))
+                    .thenReturn(true);
+            when(pointCombiner.charge(id, pointToCharge))
+                    .thenReturn(expected);
+
+            // when
+            UserPoint actual = pointService.charge(id, new PointChargeRequest(pointToCharge));
+
+            // then
+            assertThat(actual).isEqualTo(expected);
+            verify(lockManager, never()).getLock(anyLong());
+        }
     }
 
     @Nested
@@ -327,7 +399,7 @@ class PointServiceTest {
                     .thenReturn(existingUserPoint);
             doThrow(new IllegalArgumentException("Validation Fail"))
                     .when(pointValidator)
-                    .validateForUse(anyLong(), anyLong());
+                    .validateForUse(anyLong(), anyLong(), anyLong());
             when(lockManager.getLock(id))
                     .thenReturn(new ReentrantLock(true));
 
@@ -341,4 +413,77 @@ class PointServiceTest {
         }
 
     }
+
+    @Nested
+    @DisplayName("포인트 송금")
+    class TransferPointTest {
+        /**
+         * Test Case: 송금 후 보내는 사용자의 잔액은 송금 금액만큼 줄고, 받는 사용자의 잔액은 송금 금액만큼 늘어야 합니다.
+         * 작성 이유
+         *  - 포인트 송금 기능이 양쪽 잔액을 정확하게 변경하는지 검증합니다.
+         * */
+        @Test
+        void 송금_후_보내는_사용자와_받는_사용자의_잔액이_변경된다() {
+            // given
+            long senderId = 1L;
+            long receiverId = 2L;
+            long pointToTransfer = 100L;
+
+            when(userPointRepository.selectById(senderId))
+                    .thenReturn(new UserPoint(senderId, 300L, System.currentTimeMillis()));
+            when(userPointRepository.selectById(receiverId))
+                    .thenReturn(new UserPoint(receiverId, 50L, System.currentTimeMillis()));
+            when(userPointRepository.insertOrUpdate(senderId, 200L))
+                    .thenReturn(new UserPoint(senderId, 200L, System.currentTimeMillis()));
+            when(userPointRepository.insertOrUpdate(receiverId, 150L))
+                    .thenReturn(new UserPoint(receiverId, 150L, System.currentTimeMillis()));
+            when(lockManager.getLock(senderId))
+                    .thenReturn(new ReentrantLock(true));
+            when(lockManager.getLock(receiverId))
+                    .thenReturn(new ReentrantLock(true));
+
+            // when
+            PointTransferResponse actual = pointService.transfer(new PointTransferRequest(senderId, receiverId, pointToTransfer));
+
+            // then
+            assertThat(actual.sender().point()).isEqualTo(200L);
+            assertThat(actual.receiver().point()).isEqualTo(150L);
+            verify(pointHistoryRepository, times(1))
+                    .insert(eq(senderId), eq(pointToTransfer), eq(TransactionType.USE), anyLong());
+            verify(pointHistoryRepository, times(1))
+                    .insert(eq(receiverId), eq(pointToTransfer), eq(TransactionType.CHARGE), anyLong());
+        }
+
+        /**
+         * Test Case: 송금 정책 검증을 통과하지 못하면 송금에 실패합니다.
+         * 작성 이유
+         *  - PointValidator 에서 예외가 발생하는 경우, 어느 쪽 잔액도 변경되지 않는지 검증합니다.
+         * */
+        @Test
+        void 송금_검증을_통과하지_못하면_송금에_실패한다() {
+            // given
+            long senderId = 1L;
+            long receiverId = 2L;
+
+            when(userPointRepository.selectById(senderId))
+                    .thenReturn(new UserPoint(senderId, 50L, System.currentTimeMillis()));
+            when(userPointRepository.selectById(receiverId))
+                    .thenReturn(new UserPoint(receiverId, 0L, System.currentTimeMillis()));
+            when(lockManager.getLock(senderId))
+                    .thenReturn(new ReentrantLock(true));
+            when(lockManager.getLock(receiverId))
+                    .thenReturn(new ReentrantLock(true));
+            doThrow(new IllegalArgumentException("Validation Fail"))
+                    .when(pointValidator)
+                    .validateForUse(anyLong(), anyLong(), anyLong());
+
+            // when
+            assertThatThrownBy(() -> pointService.transfer(new PointTransferRequest(senderId, receiverId, 100L)))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            // then
+            verify(userPointRepository, never())
+                    .insertOrUpdate(anyLong(), anyLong());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointExpirationProperties;
+import io.hhplus.tdd.point.config.PointHotUserProperties;
+import io.hhplus.tdd.point.config.PointPolicyProperties;
+import io.hhplus.tdd.point.dto.PointChargeRequest;
+import io.hhplus.tdd.point.dto.PointTransferRequest;
+import io.hhplus.tdd.point.repository.FakePointHistoryRepository;
+import io.hhplus.tdd.point.repository.FakeUserPointRepository;
+import io.hhplus.tdd.point.repository.PointLotLocalRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class PointTransferStressTest {
+    private static final int USER_COUNT = 8;
+    private static final long INITIAL_POINT = 10_000L;
+
+    private final FakeUserPointRepository userPointRepository = new FakeUserPointRepository();
+    private final FakePointHistoryRepository pointHistoryRepository = new FakePointHistoryRepository();
+    private final PointValidator pointValidator = new PointValidator(
+            new PointPolicyEngine(new PointPolicyProperties("basic", null, null, null, Duration.ofSeconds(10)))
+    );
+    private final PointExpirationManager pointExpirationManager = new PointExpirationManager(
+            new PointLotLocalRepository(),
+            new PointExpirationProperties(Duration.ofDays(365), Duration.ofSeconds(1), 1000)
+    );
+    private final LockManager lockManager = new LockManager();
+    private final PointHotUserProperties hotUserProperties = new PointHotUserProperties(64, 0.0, 0.05, 20, Duration.ofSeconds(10), 64, Duration.ofMillis(500), Duration.ofMillis(100));
+    private final PointCombiner pointCombiner = new PointCombiner(userPointRepository, pointHistoryRepository, pointValidator, lockManager, pointExpirationManager, hotUserProperties);
+    private final PointService pointService = new PointService(userPointRepository, pointHistoryRepository, pointValidator, lockManager, pointExpirationManager, new HotUserDetector(hotUserProperties), pointCombiner);
+
+    /**
+     * Test Case: 여러 스레드가 원형으로 서로에게 동시에 송금하더라도, 교착 상태 없이 제한 시간 안에 모두 처리되어야 합니다.
+     * 작성 이유
+     *  - A -> B, B -> A 처럼 서로 반대 순서로 락을 요청하는 상황에서 락 획득 순서가 교착 상태를 막는지 확인합니다.
+     *  - 송금 전후로 전체 포인트 합계가 보존되고, 사용자별 잔액이 내역 합계와 일치하는지 확인합니다.
+     * */
+    @Test
+    void 원형_송금을_동시에_보내도_교착_상태_없이_잔액이_보존된다() {
+        // given
+        for (long id = 1; id <= USER_COUNT; id++) {
+            pointService.charge(id, new PointChargeRequest(INITIAL_POINT));
+        }
+
+        int threadCount = 32;
+        int transfersPerThread = 500;
+        AtomicLong completed = new AtomicLong();
+
+        // when
+        long elapsedNanos = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+            long startedAt = System.nanoTime();
+
+            for (int t = 0; t < threadCount; t++) {
+                // 절반은 시계 방향, 절반은 반시계 방향으로 송금해 락 요청 순서를 엇갈리게 만듭니다.
+                int direction = t % 2 == 0 ? 1 : -1;
+                int offset = t;
+                executor.execute(() -> {
+                    try {
+                        for (int i = 0; i < transfersPerThread; i++) {
+                            long senderId = Math.floorMod(offset + i, USER_COUNT) + 1;
+                            long receiverId = Math.floorMod(offset + i + direction, USER_COUNT) + 1;
+                            try {
+                                pointService.transfer(new PointTransferRequest(senderId, receiverId, 1L));
+                                completed.incrementAndGet();
+                            } catch (IllegalArgumentException ignored) {
+                                // 잔액 부족 등 정책 위반은 허용합니다.
+                            }
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            latch.await();
+            executor.shutdown();
+            return System.nanoTime() - startedAt;
+        });
+
+        // then
+        long total = LongStream.rangeClosed(1, USER_COUNT)
+                .map(id -> userPointRepository.selectById(id).point())
+                .sum();
+        assertThat(total).isEqualTo(INITIAL_POINT * USER_COUNT);
+
+        for (long id = 1; id <= USER_COUNT; id++) {
+            assertThat(userPointRepository.selectById(id).point())
+                    .isEqualTo(pointHistoryRepository.sumByUserId(id));
+        }
+
+        double throughput = completed.get() / (elapsedNanos / 1_000_000_000.0);
+        assertThat(completed.get()).isEqualTo((long) threadCount * transfersPerThread);
+        assertThat(throughput).isGreaterThan(1_000);
+    }
+}
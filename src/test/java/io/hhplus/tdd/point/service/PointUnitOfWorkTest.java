@@ -0,0 +1,219 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointExpirationProperties;
+import io.hhplus.tdd.point.config.PointHotUserProperties;
+import io.hhplus.tdd.point.config.PointPolicyProperties;
+import io.hhplus.tdd.point.dto.PointChargeRequest;
+import io.hhplus.tdd.point.dto.PointUseRequest;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import io.hhplus.tdd.point.repository.FakePointHistoryRepository;
+import io.hhplus.tdd.point.repository.FakeUserPointRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointLotLocalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PointUnitOfWorkTest {
+    private final FakeUserPointRepository userPointRepository = new FakeUserPointRepository();
+    private final FakePointHistoryRepository pointHistoryRepository = new FakePointHistoryRepository();
+    private final PointValidator pointValidator = new PointValidator(
+            new PointPolicyEngine(new PointPolicyProperties("basic", null, null, null, Duration.ofSeconds(10)))
+    );
+    private final PointExpirationManager pointExpirationManager = new PointExpirationManager(
+            new PointLotLocalRepository(),
+            new PointExpirationProperties(Duration.ofDays(365), Duration.ofSeconds(1), 1000)
+    );
+    private final LockManager lockManager = new LockManager();
+    private final PointHotUserProperties hotUserProperties = new PointHotUserProperties(64, 0.0, 0.05, 20, Duration.ofSeconds(10), 64, Duration.ofMillis(500), Duration.ofMillis(100));
+    private final PointCombiner pointCombiner = new PointCombiner(userPointRepository, pointHistoryRepository, pointValidator, lockManager, pointExpirationManager, hotUserProperties);
+
+    @Nested
+    @DisplayName("보상 처리")
+    class CompensationTest {
+        /**
+         * Test Case: 잔액 반영 후 내역 등록에 실패하면, 잔액은 이전 값으로 되돌아가야 합니다.
+         * 작성 이유
+         *  - 내역 없이 잔액만 변경되는 상황이 남지 않는지 확인합니다.
+         * */
+        @Test
+        void 내역_등록에_실패하면_잔액을_이전_값으로_되돌린다() {
+            // given
+            long id = 1L;
+            UserPoint before = userPointRepository.insertOrUpdate(id, 100L);
+            pointHistoryRepository.setFailureRate(1.0);
+
+            PointUnitOfWork unitOfWork = new PointUnitOfWork(userPointRepository, pointHistoryRepository)
+                    .stageBalance(before, 200L)
+                    .stageHistory(id, 100L, TransactionType.CHARGE);
+
+            // when
+            assertThatThrownBy(unitOfWork::commit)
+                    .isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(userPointRepository.selectById(id).point()).isEqualTo(100L);
+            assertThat(pointHistoryRepository.selectAllByUserId(id)).isEmpty();
+        }
+
+        /**
+         * Test Case: 잔액 반영에 실패하면, 내역은 등록되지 않아야 합니다.
+         * 작성 이유
+         *  - 잔액 변경 없이 내역만 남는 상황이 발생하지 않는지 확인합니다.
+         * */
+        @Test
+        void 잔액_반영에_실패하면_내역을_등록하지_않는다() {
+            // given
+            long id = 1L;
+            UserPoint before = userPointRepository.selectById(id);
+            userPointRepository.setFailureRate(1.0);
+
+            PointUnitOfWork unitOfWork = new PointUnitOfWork(userPointRepository, pointHistoryRepository)
+                    .stageBalance(before, 100L)
+                    .stageHistory(id, 100L, TransactionType.CHARGE);
+
+            // when
+            assertThatThrownBy(unitOfWork::commit)
+                    .isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(pointHistoryRepository.selectAllByUserId(id)).isEmpty();
+        }
+
+        /**
+         * Test Case: 여러 내역 중 일부만 등록된 후 실패하면, 등록된 내역은 반대 내역으로 상쇄되어야 합니다.
+         * 작성 이유
+         *  - 내역 테이블은 삭제를 지원하지 않으므로, 내역 합계가 잔액과 일치하도록 상쇄되는지 확인합니다.
+         * */
+        @Test
+        void 일부_내역만_등록된_후_실패하면_등록된_내역을_상쇄한다() {
+            // given
+            long senderId = 1L;
+            long receiverId = 2L;
+            PointHistoryRepository failingRepository = mock(PointHistoryRepository.class);
+            PointHistory inserted = new PointHistory(1L, senderId, 100L, TransactionType.USE, System.currentTimeMillis());
+            when(failingRepository.insert(eq(senderId), anyLong(), any(), anyLong()))
+                    .thenReturn(inserted);
+            when(failingRepository.insert(eq(receiverId), anyLong(), any(), anyLong()))
+                    .thenThrow(new IllegalStateException("내역 쓰기 장애 주입"));
+
+            PointUnitOfWork unitOfWork = new PointUnitOfWork(userPointRepository, failingRepository)
+                    .stageBalance(userPointRepository.insertOrUpdate(senderId, 100L), 0L)
+                    .stageBalance(userPointRepository.selectById(receiverId), 100L)
+                    .stageHistory(senderId, 100L, TransactionType.USE)
+                    .stageHistory(receiverId, 100L, TransactionType.CHARGE);
+
+            // when
+            assertThatThrownBy(unitOfWork::commit)
+                    .isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(userPointRepository.selectById(senderId).point()).isEqualTo(100L);
+            assertThat(userPointRepository.selectById(receiverId).point()).isEqualTo(0L);
+            verify(failingRepository, times(1))
+                    .insert(eq(senderId), eq(100L), eq(TransactionType.CHARGE), anyLong());
+        }
+
+        /**
+         * Test Case: 내역이 등록된 뒤 예외가 발생하면, 등록된 내역도 반대 내역으로 상쇄되어야 합니다.
+         * 작성 이유
+         *  - 등록 결과를 받지 못한 내역이 상쇄되지 않고 남아, 잔액과 내역 합계가 어긋나지 않는지 확인합니다.
+         * */
+        @Test
+        void 등록_후_예외가_발생한_내역도_상쇄한다() {
+            // given
+            long id = 1L;
+            UserPoint before = userPointRepository.insertOrUpdate(id, 100L);
+            FakePointHistoryRepository writeThenFailRepository = new FakePointHistoryRepository() {
+                private boolean failed;
+
+                @Override
+                public PointHistory insert(long userId, long amount, TransactionType transactionType, long updateMillis) {
+                    PointHistory inserted = super.insert(userId, amount, transactionType, updateMillis);
+                    if (!failed) {
+                        failed = true;
+                        throw new IllegalStateException("등록 후 응답 장애 주입");
+                    }
+                    return inserted;
+                }
+            };
+
+            PointUnitOfWork unitOfWork = new PointUnitOfWork(userPointRepository, writeThenFailRepository)
+                    .stageBalance(before, 200L)
+                    .stageHistory(id, 100L, TransactionType.CHARGE);
+
+            // when
+            assertThatThrownBy(unitOfWork::commit)
+                    .isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(userPointRepository.selectById(id).point()).isEqualTo(100L);
+            assertThat(writeThenFailRepository.selectAllByUserId(id))
+                    .extracting(PointHistory::type)
+                    .containsExactly(TransactionType.CHARGE, TransactionType.CHARGE.reverse());
+            assertThat(writeThenFailRepository.sumByUserId(id)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("장애 주입 시 정합성")
+    class FaultInjectionTest {
+        /**
+         * Test Case: 쓰기 장애가 발생하는 상황에서 동시에 충전/사용 요청을 보내더라도, 잔액은 내역 합계와 일치해야 합니다.
+         * 작성 이유
+         *  - 장애와 동시성이 겹치는 상황에서도 "잔액 = 충전 합계 - 사용 합계" 불변식이 유지되는지 확인합니다.
+         * */
+        @Test
+        void 장애가_발생해도_동시_요청_후_잔액과_내역_합계가_일치한다() throws InterruptedException {
+            // given
+            PointService pointService = new PointService(userPointRepository, pointHistoryRepository, pointValidator, lockManager, pointExpirationManager, new HotUserDetector(hotUserProperties), pointCombiner);
+            long[] ids = {1L, 2L, 3L};
+            pointHistoryRepository.setFailureRate(0.3);
+
+            // when
+            int threadCount = 300;
+            ExecutorService executor = Executors.newFixedThreadPool(32);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+
+            for (int i = 0; i < threadCount; i++) {
+                long id = ids[i % ids.length];
+                boolean charge = (i / ids.length) % 3 != 2;
+                executor.execute(() -> {
+                    try {
+                        long amount = ThreadLocalRandom.current().nextLong(1, 100);
+                        if (charge) {
+                            pointService.charge(id, new PointChargeRequest(amount));
+                        } else {
+                            pointService.use(id, new PointUseRequest(amount));
+                        }
+                    } catch (RuntimeException ignored) {
+                        // 장애 주입 및 정책 위반으로 인한 실패는 허용합니다.
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            latch.await();
+            executor.shutdown();
+
+            // then
+            for (long id : ids) {
+                assertThat(userPointRepository.selectById(id).point())
+                        .isEqualTo(pointHistoryRepository.sumByUserId(id));
+            }
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.point.config.PointPolicyProperties;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 class PointValidatorTest {
-    @InjectMocks
-    private PointValidator pointValidator;
+    private final PointValidator pointValidator = new PointValidator(
+            new PointPolicyEngine(new PointPolicyProperties("basic", null, null, null, Duration.ofSeconds(10)))
+    );
 
     @Nested
     @DisplayName("포인트 충전 시 검증 테스트")
@@ -25,11 +28,12 @@ class PointValidatorTest {
         @Test
         void 충전할_금액이_0과_작거나_같으면_충전을_실패한다() {
             // given
+            long userId = 1L;
             long existingPoint = 100L;
             long pointToCharge = -100L;
 
             // when & then
-            assertThatThrownBy(() -> pointValidator.validateForCharge(existingPoint, pointToCharge))
+            assertThatThrownBy(() -> pointValidator.validateForCharge(userId, existingPoint, pointToCharge))
                     .isInstanceOf(IllegalArgumentException.class);
         }
 
@@ -41,11 +45,12 @@ class PointValidatorTest {
         @Test
         void 충전_후_잔고가_최대_한도를_초과하면_충전을_실패한다() {
             // given
+            long userId = 1L;
             long existingPoint = 999_999L;
             long pointToCharge = 100L;
 
             // when & then
-            assertThatThrownBy(() -> pointValidator.validateForCharge(existingPoint, pointToCharge))
+            assertThatThrownBy(() -> pointValidator.validateForCharge(userId, existingPoint, pointToCharge))
                     .isInstanceOf(IllegalArgumentException.class);
         }
 
@@ -62,11 +67,12 @@ class PointValidatorTest {
         @Test
         void 사용할_금액이_0보다_작거나_같으면_사용에_실패한다() {
             // given
+            long userId = 1L;
             long existingPoint = 100L;
             long pointToUse = -100L;
 
             // when & then
-            assertThatThrownBy(() -> pointValidator.validateForUse(existingPoint, pointToUse))
+            assertThatThrownBy(() -> pointValidator.validateForUse(userId, existingPoint, pointToUse))
                     .isInstanceOf(IllegalArgumentException.class);
         }
 
@@ -78,11 +84,31 @@ class PointValidatorTest {
         @Test
         void 사용_금액이_충전된_금액을_초과하면_사용에_실패한다() {
             // given
+            long userId = 1L;
             long existingPoint = 200L;
             long pointToUse = 300L;
 
             // when & then
-            assertThatThrownBy(() -> pointValidator.validateForUse(existingPoint, pointToUse))
+            assertThatThrownBy(() -> pointValidator.validateForUse(userId, existingPoint, pointToUse))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("포인트 송금 시 검증 테스트")
+    class ValidateForTransferTest {
+        /**
+         * Test Case: 보내는 사용자와 받는 사용자가 같으면 송금에 실패합니다.
+         * 작성 이유
+         *  - "자기 자신에게는 송금할 수 없다."는 정책을 만족하는지 확인합니다.
+         * */
+        @Test
+        void 자기_자신에게_송금하면_송금에_실패한다() {
+            // given
+            long userId = 1L;
+
+            // when & then
+            assertThatThrownBy(() -> pointValidator.validateForTransfer(userId, userId))
                     .isInstanceOf(IllegalArgumentException.class);
         }
     }
@@ -0,0 +1,143 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointExpirationProperties;
+import io.hhplus.tdd.point.config.PointHotUserProperties;
+import io.hhplus.tdd.point.config.PointPolicyProperties;
+import io.hhplus.tdd.point.config.PointWarmupProperties;
+import io.hhplus.tdd.point.entity.PointHistory;
+import io.hhplus.tdd.point.entity.UserPoint;
+import io.hhplus.tdd.point.entity.type.TransactionType;
+import io.hhplus.tdd.point.repository.FakePointHistoryRepository;
+import io.hhplus.tdd.point.repository.FakeUserPointRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointLotLocalRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PointWarmupRunnerTest {
+    private final UserPointRepository userPointRepository = mock(UserPointRepository.class);
+    private final PointHistoryRepository pointHistoryRepository = mock(PointHistoryRepository.class);
+
+    /**
+     * Test Case: 지정된 사용자와 내역이 많은 사용자의 잔액과 내역을 미리 읽어야 합니다.
+     * 작성 이유
+     *  - 내역이 많은 순서로 topUsers 명만 미리 읽는지 확인합니다.
+     * */
+    @Test
+    void 지정된_사용자와_내역이_많은_사용자를_미리_읽는다() throws InterruptedException {
+        // given
+        long now = System.currentTimeMillis();
+        when(pointHistoryRepository.selectLatest(1_000))
+                .thenReturn(List.of(
+                        new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, now),
+                        new PointHistory(2L, 2L, 100L, TransactionType.CHARGE, now),
+                        new PointHistory(3L, 1L, 100L, TransactionType.USE, now)
+                ));
+        when(userPointRepository.selectById(anyLong()))
+                .thenAnswer(invocation -> UserPoint.empty(invocation.getArgument(0)));
+        PointWarmupRunner runner = newRunner(new PointWarmupProperties(true, List.of(5L), 1, 1_000, 4, 0, Duration.ofSeconds(10)));
+
+        // when
+        runner.run(null);
+
+        // then
+        verify(userPointRepository).selectById(5L);
+        verify(userPointRepository).selectById(1L);
+        verify(userPointRepository, never()).selectById(2L);
+        verify(pointHistoryRepository).selectAllByUserId(1L);
+    }
+
+    /**
+     * Test Case: JIT 컴파일을 위한 반복 수행은 실제 PointService 로 워밍업 사용자만 변경하고, 워밍업 사용자의 잔액은 0 으로 되돌려야 합니다.
+     * 작성 이유
+     *  - 요청과 같은 빈을 거치면서도 실제 사용자의 잔액과 내역은 변경하지 않는지 확인합니다.
+     * */
+    @Test
+    void 포인트_처리_로직_반복은_워밍업_사용자만_변경하고_잔액을_되돌린다() throws InterruptedException {
+        // given
+        FakeUserPointRepository fakeUserPointRepository = new FakeUserPointRepository();
+        FakePointHistoryRepository fakePointHistoryRepository = new FakePointHistoryRepository();
+        PointWarmupRunner runner = new PointWarmupRunner(
+                userPointRepository,
+                pointHistoryRepository,
+                newPointService(fakeUserPointRepository, fakePointHistoryRepository),
+                new PointWarmupProperties(true, null, 0, 1_000, 4, 200, Duration.ofSeconds(10))
+        );
+
+        // when
+        int exercised = runner.exerciseHotPaths(System.nanoTime() + Duration.ofSeconds(10).toNanos());
+
+        // then
+        assertThat(exercised).isEqualTo(200);
+        assertThat(fakePointHistoryRepository.selectAllAfter(0L, Integer.MAX_VALUE))
+                .isNotEmpty()
+                .allSatisfy(pointHistory -> assertThat(pointHistory.userId()).isNegative());
+        for (int i = 0; i < 64; i++) {
+            long warmupUserId = PointWarmupRunner.warmupUserId(i);
+            assertThat(fakeUserPointRepository.selectById(warmupUserId).point()).isZero();
+            assertThat(fakePointHistoryRepository.sumByUserId(warmupUserId)).isZero();
+        }
+        verifyNoInteractions(userPointRepository, pointHistoryRepository);
+    }
+
+    /**
+     * Test Case: 반복 중 정책 위반이 아닌 오류가 발생해도, 남은 반복을 계속 수행해야 합니다.
+     * 작성 이유
+     *  - 예상하지 못한 예외로 워밍업 스레드가 조용히 종료되지 않는지 확인합니다.
+     * */
+    @Test
+    void 반복_중_오류가_발생해도_남은_반복을_계속_수행한다() throws InterruptedException {
+        // given
+        PointService failingPointService = mock(PointService.class);
+        when(failingPointService.charge(anyLong(), any()))
+                .thenThrow(new IllegalStateException("충전 장애 주입"));
+        PointWarmupRunner runner = new PointWarmupRunner(
+                userPointRepository,
+                pointHistoryRepository,
+                failingPointService,
+                new PointWarmupProperties(true, null, 0, 1_000, 4, 100, Duration.ofSeconds(10))
+        );
+
+        // when
+        int exercised = runner.exerciseHotPaths(System.nanoTime() + Duration.ofSeconds(10).toNanos());
+
+        // then
+        assertThat(exercised).isEqualTo(100);
+        verify(failingPointService, times(100)).charge(anyLong(), any());
+    }
+
+    private PointWarmupRunner newRunner(PointWarmupProperties properties) {
+        return new PointWarmupRunner(userPointRepository, pointHistoryRepository, mock(PointService.class), properties);
+    }
+
+    private PointService newPointService(FakeUserPointRepository fakeUserPointRepository, FakePointHistoryRepository fakePointHistoryRepository) {
+        PointValidator pointValidator = new PointValidator(
+                new PointPolicyEngine(new PointPolicyProperties("basic", null, null, null, Duration.ofSeconds(10)))
+        );
+        LockManager lockManager = new LockManager();
+        PointExpirationManager pointExpirationManager = new PointExpirationManager(
+                new PointLotLocalRepository(),
+                new PointExpirationProperties(Duration.ofDays(365), Duration.ofSeconds(1), 1000)
+        );
+        PointHotUserProperties hotUserProperties = new PointHotUserProperties(64, 0.1, 0.05, 20, Duration.ofSeconds(10), 64, Duration.ofMillis(500), Duration.ofMillis(100));
+        PointCombiner pointCombiner = new PointCombiner(
+                fakeUserPointRepository, fakePointHistoryRepository, pointValidator, lockManager, pointExpirationManager, hotUserProperties
+        );
+        return new PointService(
+                fakeUserPointRepository,
+                fakePointHistoryRepository,
+                pointValidator,
+                lockManager,
+                pointExpirationManager,
+                new HotUserDetector(hotUserProperties),
+                pointCombiner
+        );
+    }
+}
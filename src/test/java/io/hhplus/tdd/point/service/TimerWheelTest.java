@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    /**
+     * Test Case: 단계가 서로 다른 만료 시점을 등록하면, 각 항목은 정확히 만료 시점에 반환되어야 합니다.
+     * 작성 이유
+     *  - 상위 단계에서 하위 단계로 내려 보내는 과정에서 항목이 일찍 반환되거나 누락되지 않는지 확인합니다.
+     * */
+    @Test
+    void 등록한_항목은_만료_시점에_반환된다() {
+        // given
+        TimerWheel<Long> timerWheel = new TimerWheel<>(1L, 0L);
+        long[] deadlines = {1L, 5L, 63L, 64L, 65L, 4_095L, 4_096L, 5_000L, 262_144L, 300_001L};
+        for (long deadline : deadlines) {
+            timerWheel.schedule(deadline, deadline);
+        }
+
+        // when
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (long now = 1; now <= 300_001L; now++) {
+            for (Long item : timerWheel.poll(now, Integer.MAX_VALUE)) {
+                firedAt.put(item, now);
+            }
+        }
+
+        // then
+        assertThat(firedAt).hasSize(deadlines.length);
+        for (long deadline : deadlines) {
+            assertThat(firedAt.get(deadline)).isEqualTo(deadline);
+        }
+        assertThat(timerWheel.size()).isZero();
+    }
+
+    /**
+     * Test Case: 이미 만료 시점이 지난 항목을 등록하면, 다음 조회 시 바로 반환되어야 합니다.
+     * 작성 이유
+     *  - 재시도 등으로 과거 시점이 등록되는 경우에도 항목이 누락되지 않는지 확인합니다.
+     * */
+    @Test
+    void 만료_시점이_지난_항목은_다음_조회_시_반환된다() {
+        // given
+        TimerWheel<String> timerWheel = new TimerWheel<>(1_000L, 10_000L);
+
+        // when
+        timerWheel.schedule("expired", 5_000L);
+
+        // then
+        assertThat(timerWheel.poll(10_000L, 10)).containsExactly("expired");
+    }
+
+    /**
+     * Test Case: 만료된 항목이 배치 크기보다 많으면, 배치 크기만큼 나누어 반환되어야 합니다.
+     * 작성 이유
+     *  - 만료 처리가 한 번에 너무 많은 항목을 처리하지 않도록 배치 단위로 반환되는지 확인합니다.
+     * */
+    @Test
+    void 만료된_항목은_배치_크기만큼_나누어_반환된다() {
+        // given
+        TimerWheel<Integer> timerWheel = new TimerWheel<>(1L, 0L);
+        for (int i = 0; i < 25; i++) {
+            timerWheel.schedule(i, 10L);
+        }
+
+        // when
+        List<Integer> first = timerWheel.poll(10L, 10);
+        List<Integer> second = timerWheel.poll(10L, 10);
+        List<Integer> third = timerWheel.poll(10L, 10);
+
+        // then
+        assertThat(first).hasSize(10);
+        assertThat(second).hasSize(10);
+        assertThat(third).hasSize(5);
+        assertThat(timerWheel.poll(10L, 10)).isEmpty();
+    }
+}